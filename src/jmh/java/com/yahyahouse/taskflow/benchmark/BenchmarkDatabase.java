@@ -0,0 +1,99 @@
+package com.yahyahouse.taskflow.benchmark;
+
+import com.yahyahouse.taskflow.TaskFlowApplication;
+import com.yahyahouse.taskflow.model.enums.TaskPriority;
+import com.yahyahouse.taskflow.model.enums.TaskStatus;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+final class BenchmarkDatabase implements AutoCloseable {
+
+    private static final int INSERT_CHUNK_SIZE = 5_000;
+    private static final String[] WORDS = {
+            "setup", "authentication", "payment", "report", "dashboard", "invoice", "refactor",
+            "migration", "search", "export", "notification", "cache", "login", "billing", "sync"
+    };
+
+    private final ConfigurableApplicationContext context;
+
+    private BenchmarkDatabase(ConfigurableApplicationContext context) {
+        this.context = context;
+    }
+
+    static BenchmarkDatabase start(int rows) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(TaskFlowApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:taskflow_bench_" + rows + ";DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN",
+                        "taskflow.report.counters.reconcile-interval=PT24H"
+                )
+                .run();
+        BenchmarkDatabase database = new BenchmarkDatabase(context);
+        database.seed(rows);
+        return database;
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+
+    private void seed(int rows) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        Random random = new Random(42);
+        TaskStatus[] statuses = TaskStatus.values();
+        TaskPriority[] priorities = TaskPriority.values();
+        LocalDate today = LocalDate.of(2026, 3, 1);
+        LocalDateTime start = today.atStartOfDay().minusDays(365);
+        List<Object[]> batch = new ArrayList<>(INSERT_CHUNK_SIZE);
+        for (long id = 1; id <= rows; id++) {
+            LocalDateTime createdAt = start.plusSeconds(id * 30);
+            batch.add(new Object[]{
+                    id,
+                    word(random) + " " + word(random) + " " + id,
+                    "Benchmark task " + word(random) + " " + word(random) + " " + word(random),
+                    statuses[random.nextInt(statuses.length)].name(),
+                    priorities[random.nextInt(priorities.length)].name(),
+                    Date.valueOf(today.plusDays(random.nextInt(120) - 60)),
+                    Timestamp.valueOf(createdAt),
+                    Timestamp.valueOf(createdAt)
+            });
+            if (batch.size() == INSERT_CHUNK_SIZE) {
+                insert(jdbcTemplate, batch);
+            }
+        }
+        insert(jdbcTemplate, batch);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    private static void insert(JdbcTemplate jdbcTemplate, List<Object[]> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO tasks (id, title, description, status, priority, due_date, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                """, batch);
+        batch.clear();
+    }
+
+    private static String word(Random random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+}
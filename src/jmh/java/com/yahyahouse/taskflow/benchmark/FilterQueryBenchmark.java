@@ -0,0 +1,88 @@
+package com.yahyahouse.taskflow.benchmark;
+
+import com.yahyahouse.taskflow.model.TaskCursor;
+import com.yahyahouse.taskflow.model.TaskFilter;
+import com.yahyahouse.taskflow.model.enums.TaskPriority;
+import com.yahyahouse.taskflow.model.enums.TaskStatus;
+import com.yahyahouse.taskflow.model.event.TaskSnapshot;
+import com.yahyahouse.taskflow.repository.TaskRepository;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class FilterQueryBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    @Param({"10000", "100000", "1000000"})
+    private int rows;
+
+    private BenchmarkDatabase database;
+    private TaskRepository taskRepository;
+    private TaskFilter byStatus;
+    private TaskFilter byPriorityAndDueDate;
+    private TaskFilter byKeyword;
+    private TaskCursor middleCursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = BenchmarkDatabase.start(rows);
+        taskRepository = database.bean(TaskRepository.class);
+        byStatus = TaskFilter.of(TaskStatus.TODO, null, null, null, null);
+        byPriorityAndDueDate = TaskFilter.of(
+                null, TaskPriority.HIGH, null, LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 7));
+        byKeyword = TaskFilter.of(null, null, "payment", null, null);
+        TaskFilter unfiltered = TaskFilter.of(null, null, null, null, null);
+        List<TaskSnapshot> page = taskRepository.findPageRows(unfiltered, null, rows / 2, false);
+        middleCursor = TaskCursor.of(page.get(page.size() - 1));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public List<TaskSnapshot> firstPageByStatus() {
+        return taskRepository.findPageRows(byStatus, null, PAGE_SIZE, true);
+    }
+
+    @Benchmark
+    public List<TaskSnapshot> firstPageByStatusSummary() {
+        return taskRepository.findPageRows(byStatus, null, PAGE_SIZE, false);
+    }
+
+    @Benchmark
+    public List<TaskSnapshot> firstPageByPriorityAndDueDate() {
+        return taskRepository.findPageRows(byPriorityAndDueDate, null, PAGE_SIZE, true);
+    }
+
+    @Benchmark
+    public List<TaskSnapshot> keywordLike() {
+        return taskRepository.findPageRows(byKeyword, null, PAGE_SIZE, true);
+    }
+
+    @Benchmark
+    public List<TaskSnapshot> deepPageByCursor() {
+        return taskRepository.findPageRows(byStatus, middleCursor, PAGE_SIZE, true);
+    }
+}
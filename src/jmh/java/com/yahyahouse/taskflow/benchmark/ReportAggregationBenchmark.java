@@ -0,0 +1,69 @@
+package com.yahyahouse.taskflow.benchmark;
+
+import com.yahyahouse.taskflow.model.entity.Task;
+import com.yahyahouse.taskflow.model.enums.TaskStatus;
+import com.yahyahouse.taskflow.repository.StatusCountProjection;
+import com.yahyahouse.taskflow.repository.TaskRepository;
+import com.yahyahouse.taskflow.service.TaskReportCounters;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ReportAggregationBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int rows;
+
+    private BenchmarkDatabase database;
+    private TaskRepository taskRepository;
+    private TaskReportCounters taskReportCounters;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = BenchmarkDatabase.start(rows);
+        taskRepository = database.bean(TaskRepository.class);
+        taskReportCounters = database.bean(TaskReportCounters.class);
+        taskReportCounters.reconcile();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public Map<TaskStatus, Long> inMemoryGroupingBy() {
+        List<Task> tasks = taskRepository.findAll();
+        return tasks.stream().collect(Collectors.groupingBy(Task::getStatus, Collectors.counting()));
+    }
+
+    @Benchmark
+    public List<StatusCountProjection> aggregateQuery() {
+        return taskRepository.countByStatusNative();
+    }
+
+    @Benchmark
+    public Map<TaskStatus, Long> inMemoryCounters() {
+        return taskReportCounters.statusCounts();
+    }
+}
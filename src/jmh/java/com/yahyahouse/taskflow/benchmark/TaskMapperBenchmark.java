@@ -0,0 +1,102 @@
+package com.yahyahouse.taskflow.benchmark;
+
+import com.yahyahouse.taskflow.model.TaskMapper;
+import com.yahyahouse.taskflow.model.enums.TaskPriority;
+import com.yahyahouse.taskflow.model.enums.TaskStatus;
+import com.yahyahouse.taskflow.model.event.TaskSnapshot;
+import com.yahyahouse.taskflow.model.response.TaskResponse;
+import com.yahyahouse.taskflow.model.response.TaskSummaryResponse;
+import com.yahyahouse.taskflow.util.CommonUtil;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskMapperBenchmark {
+
+    private final TaskMapper taskMapper = new TaskMapper();
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+    private TaskSnapshot task;
+    private TaskResponse response;
+    private TaskSummaryResponse summaryResponse;
+
+    @Setup
+    public void setUp() {
+        task = new TaskSnapshot(
+                42L,
+                "Setup authentication",
+                "Implement JWT login flow",
+                TaskStatus.IN_PROGRESS,
+                TaskPriority.HIGH,
+                LocalDate.of(2026, 3, 1),
+                LocalDateTime.of(2026, 2, 20, 9, 30, 15),
+                LocalDateTime.of(2026, 2, 22, 17, 5, 42),
+                3L
+        );
+        response = taskMapper.toResponse(task, "BENCH0001");
+        summaryResponse = taskMapper.toSummaryResponse(task, "BENCH0001");
+    }
+
+    @Benchmark
+    public void legacyPatternPerCall(Blackhole blackhole) {
+        blackhole.consume(task.dueDate().format(DateTimeFormatter.ofPattern("yyyy-MM-dd")));
+        blackhole.consume(task.createdAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
+        blackhole.consume(task.updatedAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
+    }
+
+    @Benchmark
+    public void cachedFormatter(Blackhole blackhole) {
+        blackhole.consume(CommonUtil.formatDate(task.dueDate()));
+        blackhole.consume(CommonUtil.formatDateTime(task.createdAt()));
+        blackhole.consume(CommonUtil.formatDateTime(task.updatedAt()));
+    }
+
+    @Benchmark
+    public TaskResponse mapToResponse() {
+        return taskMapper.toResponse(task, "BENCH0001");
+    }
+
+    @Benchmark
+    public TaskSummaryResponse mapToSummaryResponse() {
+        return taskMapper.toSummaryResponse(task, "BENCH0001");
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] serializeSummaryResponse() {
+        return objectMapper.writeValueAsBytes(summaryResponse);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerialize() {
+        return objectMapper.writeValueAsBytes(taskMapper.toResponse(task, "BENCH0001"));
+    }
+
+    @Benchmark
+    public byte[] mapAndSerializeSummary() {
+        return objectMapper.writeValueAsBytes(taskMapper.toSummaryResponse(task, "BENCH0001"));
+    }
+}
@@ -0,0 +1,76 @@
+package com.yahyahouse.taskflow.benchmark;
+
+import com.yahyahouse.taskflow.model.enums.TaskPriority;
+import com.yahyahouse.taskflow.model.enums.TaskStatus;
+import com.yahyahouse.taskflow.model.request.CreateTaskRequest;
+import com.yahyahouse.taskflow.model.request.UpdateTaskStatusRequest;
+import com.yahyahouse.taskflow.util.TaskFlowException;
+import com.yahyahouse.taskflow.util.ValidationUtil;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private static final String TRANSACTION_ID = "BENCH0001";
+
+    private CreateTaskRequest validCreateRequest;
+    private CreateTaskRequest invalidCreateRequest;
+    private UpdateTaskStatusRequest statusRequest;
+
+    @Setup
+    public void setUp() {
+        validCreateRequest = new CreateTaskRequest();
+        validCreateRequest.setTitle("Setup authentication");
+        validCreateRequest.setDescription("Implement JWT login flow");
+        validCreateRequest.setStatus(TaskStatus.TODO);
+        validCreateRequest.setPriority(TaskPriority.HIGH);
+        validCreateRequest.setDueDate(LocalDate.of(2026, 3, 1));
+
+        invalidCreateRequest = new CreateTaskRequest();
+        invalidCreateRequest.setTitle("Setup authentication");
+
+        statusRequest = new UpdateTaskStatusRequest();
+        statusRequest.setStatus(TaskStatus.DONE);
+    }
+
+    @Benchmark
+    public void validateCreateTaskRequest() {
+        ValidationUtil.validateCreateTaskRequest(validCreateRequest, TRANSACTION_ID);
+    }
+
+    @Benchmark
+    public TaskFlowException validateCreateTaskRequestFailure() {
+        try {
+            ValidationUtil.validateCreateTaskRequest(invalidCreateRequest, TRANSACTION_ID);
+            return null;
+        } catch (TaskFlowException ex) {
+            return ex;
+        }
+    }
+
+    @Benchmark
+    public void validateUpdateTaskStatusRequest() {
+        ValidationUtil.validateUpdateTaskStatusRequest(statusRequest, TRANSACTION_ID);
+    }
+
+    @Benchmark
+    public int resolvePageLimit() {
+        return ValidationUtil.resolvePageLimit(100);
+    }
+}
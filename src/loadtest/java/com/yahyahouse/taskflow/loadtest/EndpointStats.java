@@ -0,0 +1,64 @@
+package com.yahyahouse.taskflow.loadtest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+final class EndpointStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final String endpoint;
+    private final Recorder responseTime = new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private final Recorder serviceTime = new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private final LongAdder errors = new LongAdder();
+
+    EndpointStats(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    String endpoint() {
+        return endpoint;
+    }
+
+    void recordOpenLoop(long intendedStartNanos, long sendNanos, long endNanos, boolean success) {
+        responseTime.recordValue(micros(endNanos - intendedStartNanos));
+        serviceTime.recordValue(micros(endNanos - sendNanos));
+        countError(success);
+    }
+
+    void recordClosedLoop(long sendNanos, long endNanos, long expectedIntervalNanos, boolean success) {
+        long latencyMicros = micros(endNanos - sendNanos);
+        serviceTime.recordValue(latencyMicros);
+        if (expectedIntervalNanos > 0) {
+            responseTime.recordValueWithExpectedInterval(latencyMicros, micros(expectedIntervalNanos));
+        } else {
+            responseTime.recordValue(latencyMicros);
+        }
+        countError(success);
+    }
+
+    Snapshot snapshot() {
+        return new Snapshot(endpoint, responseTime.getIntervalHistogram(), serviceTime.getIntervalHistogram(),
+                errors.sumThenReset());
+    }
+
+    private void countError(boolean success) {
+        if (!success) {
+            errors.increment();
+        }
+    }
+
+    private static long micros(long nanos) {
+        return Math.min(HIGHEST_TRACKABLE_MICROS, Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos)));
+    }
+
+    record Snapshot(String endpoint, Histogram responseTime, Histogram serviceTime, long errors) {
+
+        long count() {
+            return serviceTime.getTotalCount();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.yahyahouse.taskflow.loadtest;
+
+import java.io.PrintStream;
+import java.util.List;
+import org.HdrHistogram.Histogram;
+
+record LoadReport(
+        String model,
+        int targetRate,
+        int concurrency,
+        long durationSeconds,
+        double writeRatio,
+        boolean virtualThreads,
+        boolean coordinatedOmissionCorrected,
+        List<EndpointResult> endpoints
+) {
+
+    private static final double MICROS_PER_MILLI = 1_000.0;
+
+    static LoadReport of(LoadTestOptions options, List<EndpointStats.Snapshot> snapshots) {
+        long durationSeconds = options.duration().toSeconds();
+        List<EndpointResult> endpoints = snapshots.stream()
+                .filter(snapshot -> snapshot.count() > 0)
+                .map(snapshot -> EndpointResult.of(snapshot, durationSeconds))
+                .toList();
+        return new LoadReport(options.model().name().toLowerCase(), options.rate(), options.concurrency(),
+                durationSeconds, options.writeRatio(), options.virtualThreads(), options.paced(), endpoints);
+    }
+
+    void print(PrintStream out) {
+        out.printf("%nmodel=%s rate=%d/s concurrency=%d duration=%ds write-ratio=%.2f virtual-threads=%s%n",
+                model, targetRate, concurrency, durationSeconds, writeRatio, virtualThreads);
+        printTable(out, coordinatedOmissionCorrected
+                        ? "Response time (coordinated-omission corrected)"
+                        : "Response time (NOT coordinated-omission corrected: unpaced closed loop)",
+                true);
+        printTable(out, "Service time (uncorrected, measured from actual send)", false);
+    }
+
+    private void printTable(PrintStream out, String title, boolean responseTime) {
+        out.printf("%n%s%n", title);
+        out.printf("%-36s %9s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        for (EndpointResult endpoint : endpoints) {
+            Percentiles percentiles = responseTime ? endpoint.responseTime() : endpoint.serviceTime();
+            out.printf("%-36s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    endpoint.endpoint(), endpoint.count(), endpoint.errors(), endpoint.throughput(),
+                    percentiles.p50(), percentiles.p99(), percentiles.p999(), percentiles.max());
+        }
+    }
+
+    record EndpointResult(
+            String endpoint,
+            long count,
+            long errors,
+            double throughput,
+            Percentiles responseTime,
+            Percentiles serviceTime
+    ) {
+
+        static EndpointResult of(EndpointStats.Snapshot snapshot, long durationSeconds) {
+            return new EndpointResult(snapshot.endpoint(), snapshot.count(), snapshot.errors(),
+                    durationSeconds > 0 ? (double) snapshot.count() / durationSeconds : snapshot.count(),
+                    Percentiles.of(snapshot.responseTime()), Percentiles.of(snapshot.serviceTime()));
+        }
+    }
+
+    record Percentiles(double p50, double p99, double p999, double max) {
+
+        static Percentiles of(Histogram histogram) {
+            return new Percentiles(
+                    millis(histogram.getValueAtPercentile(50.0)),
+                    millis(histogram.getValueAtPercentile(99.0)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()));
+        }
+
+        private static double millis(long micros) {
+            return micros / MICROS_PER_MILLI;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.yahyahouse.taskflow.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+final class LoadRunner {
+
+    private final HttpClient httpClient;
+    private final TaskWorkload workload;
+    private final LoadTestOptions options;
+
+    LoadRunner(HttpClient httpClient, TaskWorkload workload, LoadTestOptions options) {
+        this.httpClient = httpClient;
+        this.workload = workload;
+        this.options = options;
+    }
+
+    void run(Duration duration) throws InterruptedException {
+        if (options.model() == LoadTestOptions.WorkloadModel.OPEN) {
+            runOpenLoop(duration);
+        } else {
+            runClosedLoop(duration);
+        }
+    }
+
+    private void runOpenLoop(Duration duration) throws InterruptedException {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / options.rate();
+        long startNanos = System.nanoTime();
+        long endNanos = startNanos + duration.toNanos();
+        Semaphore inFlight = new Semaphore(options.maxInFlight());
+        for (long i = 0; ; i++) {
+            long intendedStartNanos = startNanos + i * intervalNanos;
+            if (intendedStartNanos >= endNanos) {
+                break;
+            }
+            long waitNanos = intendedStartNanos - System.nanoTime();
+            if (waitNanos > 0) {
+                LockSupport.parkNanos(waitNanos);
+            }
+            inFlight.acquire();
+            TaskWorkload.Request request = workload.next(ThreadLocalRandom.current());
+            long sendNanos = System.nanoTime();
+            httpClient.sendAsync(request.httpRequest(), HttpResponse.BodyHandlers.ofString())
+                    .whenComplete((response, error) -> {
+                        long completedNanos = System.nanoTime();
+                        inFlight.release();
+                        request.stats().recordOpenLoop(intendedStartNanos, sendNanos, completedNanos,
+                                succeeded(request, response, error));
+                    });
+        }
+        inFlight.acquire(options.maxInFlight());
+        inFlight.release(options.maxInFlight());
+    }
+
+    private void runClosedLoop(Duration duration) throws InterruptedException {
+        long endNanos = System.nanoTime() + duration.toNanos();
+        long expectedIntervalNanos = options.rate() > 0
+                ? TimeUnit.SECONDS.toNanos(1) * options.concurrency() / options.rate()
+                : 0;
+        List<Thread> workers = new ArrayList<>(options.concurrency());
+        for (int i = 0; i < options.concurrency(); i++) {
+            workers.add(Thread.ofPlatform().name("loadtest-worker-" + i).start(
+                    () -> closedLoopWorker(endNanos, expectedIntervalNanos)));
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+    }
+
+    private void closedLoopWorker(long endNanos, long expectedIntervalNanos) {
+        long nextStartNanos = System.nanoTime();
+        while (System.nanoTime() < endNanos) {
+            if (expectedIntervalNanos > 0) {
+                long waitNanos = nextStartNanos - System.nanoTime();
+                if (waitNanos > 0) {
+                    LockSupport.parkNanos(waitNanos);
+                }
+                nextStartNanos += expectedIntervalNanos;
+            }
+            TaskWorkload.Request request = workload.next(ThreadLocalRandom.current());
+            long sendNanos = System.nanoTime();
+            HttpResponse<String> response = null;
+            Throwable error = null;
+            try {
+                response = httpClient.send(request.httpRequest(), HttpResponse.BodyHandlers.ofString());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception ex) {
+                error = ex;
+            }
+            request.stats().recordClosedLoop(sendNanos, System.nanoTime(), expectedIntervalNanos,
+                    succeeded(request, response, error));
+        }
+    }
+
+    private boolean succeeded(TaskWorkload.Request request, HttpResponse<String> response, Throwable error) {
+        if (error != null || response.statusCode() >= 300) {
+            return false;
+        }
+        workload.onCreated(request.stats().endpoint(), response.body());
+        return true;
+    }
+}
@@ -0,0 +1,98 @@
+package com.yahyahouse.taskflow.loadtest;
+
+import com.yahyahouse.taskflow.TaskFlowApplication;
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+public final class LoadTestMain {
+
+    private static final int SEED_BATCH_SIZE = 500;
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        ConfigurableApplicationContext context = options.embedded() ? startEmbedded(options) : null;
+        try {
+            String baseUrl = options.embedded()
+                    ? "http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                    : options.baseUrl();
+            ObjectMapper objectMapper = JsonMapper.builder().build();
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            TaskWorkload workload = new TaskWorkload(baseUrl, objectMapper, options.writeRatio());
+            long[] seededIds = seed(httpClient, objectMapper, workload, options.seedRows() + options.seedRows() / 2);
+            workload.seed(
+                    Arrays.copyOfRange(seededIds, 0, options.seedRows()),
+                    Arrays.copyOfRange(seededIds, options.seedRows(), seededIds.length));
+
+            LoadRunner runner = new LoadRunner(httpClient, workload, options);
+            System.out.printf("Warming up for %s against %s%n", options.warmup(), baseUrl);
+            runner.run(options.warmup());
+            workload.snapshot();
+
+            System.out.printf("Measuring for %s%n", options.duration());
+            runner.run(options.duration());
+            LoadReport report = LoadReport.of(options, workload.snapshot());
+            report.print(System.out);
+            Files.createDirectories(options.output().toAbsolutePath().getParent());
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(options.output().toFile(), report);
+            System.out.printf("Result written to %s%n", options.output());
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext startEmbedded(LoadTestOptions options) {
+        return new SpringApplicationBuilder(TaskFlowApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + options.virtualThreads(),
+                        "spring.datasource.url=jdbc:h2:mem:taskflow_loadtest;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN"
+                )
+                .run();
+    }
+
+    private static long[] seed(HttpClient httpClient, ObjectMapper objectMapper, TaskWorkload workload, int rows)
+            throws IOException, InterruptedException {
+        long[] ids = new long[rows];
+        int seeded = 0;
+        while (seeded < rows) {
+            List<Map<String, Object>> bodies = workload.seedBodies(Math.min(SEED_BATCH_SIZE, rows - seeded));
+            HttpResponse<String> response = httpClient.send(
+                    workload.send("POST", "/api/tasks/batch", bodies), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("seeding failed with HTTP " + response.statusCode()
+                        + ": " + response.body());
+            }
+            JsonNode results = objectMapper.readTree(response.body()).get("results");
+            for (int i = 0; i < results.size(); i++) {
+                JsonNode result = results.get(i);
+                if (!result.get("success").asBoolean()) {
+                    throw new IllegalStateException("seeding failed: " + result);
+                }
+                ids[seeded++] = result.get("id").asLong();
+            }
+        }
+        return ids;
+    }
+}
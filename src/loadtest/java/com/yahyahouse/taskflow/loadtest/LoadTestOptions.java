@@ -0,0 +1,85 @@
+package com.yahyahouse.taskflow.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+record LoadTestOptions(
+        WorkloadModel model,
+        String baseUrl,
+        int rate,
+        int concurrency,
+        Duration duration,
+        Duration warmup,
+        double writeRatio,
+        int seedRows,
+        int maxInFlight,
+        boolean virtualThreads,
+        Path output
+) {
+
+    enum WorkloadModel {
+        OPEN, CLOSED
+    }
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("arguments must look like --name=value: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        LoadTestOptions options = new LoadTestOptions(
+                WorkloadModel.valueOf(values.getOrDefault("model", "open").toUpperCase()),
+                values.get("url"),
+                Integer.parseInt(values.getOrDefault("rate", "200")),
+                Integer.parseInt(values.getOrDefault("concurrency", "32")),
+                duration(values.getOrDefault("duration", "60s")),
+                duration(values.getOrDefault("warmup", "15s")),
+                Double.parseDouble(values.getOrDefault("write-ratio", "0.2")),
+                Integer.parseInt(values.getOrDefault("seed-rows", "10000")),
+                Integer.parseInt(values.getOrDefault("max-in-flight", "10000")),
+                Boolean.parseBoolean(values.getOrDefault("virtual-threads", "false")),
+                Path.of(values.getOrDefault("output", "target/loadtest-result.json"))
+        );
+        options.validate();
+        return options;
+    }
+
+    boolean embedded() {
+        return baseUrl == null;
+    }
+
+    boolean paced() {
+        return model == WorkloadModel.OPEN || rate > 0;
+    }
+
+    private void validate() {
+        if (writeRatio < 0 || writeRatio > 1) {
+            throw new IllegalArgumentException("write-ratio must be between 0 and 1");
+        }
+        if (model == WorkloadModel.OPEN && rate <= 0) {
+            throw new IllegalArgumentException("rate must be positive for the open model");
+        }
+        if (concurrency <= 0 || maxInFlight <= 0 || seedRows <= 0) {
+            throw new IllegalArgumentException("concurrency, max-in-flight and seed-rows must be positive");
+        }
+    }
+
+    private static Duration duration(String value) {
+        String normalized = value.trim().toLowerCase();
+        if (normalized.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(normalized.substring(0, normalized.length() - 2)));
+        }
+        if (normalized.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(normalized.substring(0, normalized.length() - 1)));
+        }
+        if (normalized.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(normalized.substring(0, normalized.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(normalized));
+    }
+}
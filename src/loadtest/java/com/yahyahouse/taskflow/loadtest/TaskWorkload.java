@@ -0,0 +1,208 @@
+package com.yahyahouse.taskflow.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import tools.jackson.databind.ObjectMapper;
+
+final class TaskWorkload {
+
+    static final String TRANSACTION_HEADER = "X-Transaction-Id";
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final String[] STATUSES = {"TODO", "IN_PROGRESS", "DONE"};
+    private static final String[] PRIORITIES = {"LOW", "MEDIUM", "HIGH"};
+    private static final String[] WORDS = {
+            "setup", "authentication", "payment", "report", "dashboard", "invoice", "refactor",
+            "migration", "search", "export", "notification", "cache", "login", "billing", "sync"
+    };
+    private static final LocalDate BASE_DUE_DATE = LocalDate.now();
+
+    private final String baseUrl;
+    private final ObjectMapper objectMapper;
+    private final double writeRatio;
+    private final List<WeightedOperation> reads = new ArrayList<>();
+    private final List<WeightedOperation> writes = new ArrayList<>();
+    private final Map<String, EndpointStats> stats = new LinkedHashMap<>();
+    private final AtomicLong transactionSequence = new AtomicLong();
+    private final ConcurrentLinkedDeque<Long> createdIds = new ConcurrentLinkedDeque<>();
+    private long[] seededIds = new long[0];
+
+    TaskWorkload(String baseUrl, ObjectMapper objectMapper, double writeRatio) {
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+        this.writeRatio = writeRatio;
+
+        read(30, "GET /api/tasks", random -> get("/api/tasks?status=" + pick(random, STATUSES) + "&limit=50"));
+        read(30, "GET /api/tasks/{id}", random -> get("/api/tasks/" + seededId(random)));
+        read(10, "GET /api/tasks/search", random -> get("/api/tasks/search?q=" + pick(random, WORDS) + "&limit=20"));
+        read(2, "GET /api/tasks/export", random -> get("/api/tasks/export?status=" + pick(random, STATUSES)
+                + "&priority=" + pick(random, PRIORITIES) + "&dueDateFrom=" + BASE_DUE_DATE
+                + "&dueDateTo=" + BASE_DUE_DATE.plusDays(7)));
+        read(8, "GET /api/reports/summary", random -> get("/api/reports/summary"));
+        read(8, "GET /api/reports/status-count", random -> get("/api/reports/status-count"));
+        read(4, "GET /api/reports/overdue", random -> get("/api/reports/overdue"));
+
+        write(35, "POST /api/tasks", random -> send("POST", "/api/tasks", createBody(random)));
+        write(20, "PUT /api/tasks/{id}", random -> send("PUT", "/api/tasks/" + seededId(random), Map.of(
+                "title", title(random),
+                "description", description(random),
+                "status", pick(random, STATUSES),
+                "priority", pick(random, PRIORITIES),
+                "dueDate", dueDate(random).toString())));
+        write(25, "PATCH /api/tasks/{id}/status", random -> send("PATCH", "/api/tasks/" + seededId(random) + "/status",
+                Map.of("status", pick(random, STATUSES))));
+        write(10, "DELETE /api/tasks/{id}", this::delete);
+        write(5, "POST /api/tasks/batch", random -> {
+            List<Map<String, Object>> items = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                items.add(createBody(random));
+            }
+            return send("POST", "/api/tasks/batch", items);
+        });
+        write(4, "PATCH /api/tasks/status/batch", random -> {
+            List<Map<String, Object>> items = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                items.add(Map.of("id", seededId(random), "status", pick(random, STATUSES)));
+            }
+            return send("PATCH", "/api/tasks/status/batch", items);
+        });
+        write(1, "PATCH /api/tasks/status/transition", random -> {
+            LocalDate dueDate = dueDate(random);
+            return send("PATCH", "/api/tasks/status/transition", Map.of(
+                    "priority", pick(random, PRIORITIES),
+                    "dueDateFrom", dueDate.toString(),
+                    "dueDateTo", dueDate.toString(),
+                    "targetStatus", pick(random, STATUSES)));
+        });
+    }
+
+    void seed(long[] stableIds, long[] deletableIds) {
+        this.seededIds = stableIds;
+        for (long id : deletableIds) {
+            createdIds.add(id);
+        }
+    }
+
+    List<Map<String, Object>> seedBodies(int count) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<Map<String, Object>> bodies = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            bodies.add(createBody(random));
+        }
+        return bodies;
+    }
+
+    Request next(ThreadLocalRandom random) {
+        List<WeightedOperation> operations = random.nextDouble() < writeRatio ? writes : reads;
+        int total = operations.getLast().cumulativeWeight();
+        int roll = random.nextInt(total);
+        for (WeightedOperation operation : operations) {
+            if (roll < operation.cumulativeWeight()) {
+                return new Request(stats.get(operation.endpoint()), operation.factory().apply(random));
+            }
+        }
+        throw new IllegalStateException("no operation selected");
+    }
+
+    void onCreated(String endpoint, String responseBody) {
+        if (!"POST /api/tasks".equals(endpoint)) {
+            return;
+        }
+        createdIds.add(objectMapper.readTree(responseBody).get("id").asLong());
+    }
+
+    List<EndpointStats.Snapshot> snapshot() {
+        return stats.values().stream().map(EndpointStats::snapshot).toList();
+    }
+
+    HttpRequest send(String method, String path, Object body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header(TRANSACTION_HEADER, nextTransactionId())
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .build();
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header(TRANSACTION_HEADER, nextTransactionId())
+                .GET()
+                .build();
+    }
+
+    private HttpRequest delete(ThreadLocalRandom random) {
+        Long id = createdIds.pollFirst();
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/tasks/" + (id == null ? Long.MAX_VALUE : id)))
+                .timeout(REQUEST_TIMEOUT)
+                .header(TRANSACTION_HEADER, nextTransactionId())
+                .DELETE()
+                .build();
+    }
+
+    private void read(int weight, String endpoint, Function<ThreadLocalRandom, HttpRequest> factory) {
+        register(reads, weight, endpoint, factory);
+    }
+
+    private void write(int weight, String endpoint, Function<ThreadLocalRandom, HttpRequest> factory) {
+        register(writes, weight, endpoint, factory);
+    }
+
+    private void register(List<WeightedOperation> operations, int weight, String endpoint,
+                          Function<ThreadLocalRandom, HttpRequest> factory) {
+        int cumulativeWeight = operations.isEmpty() ? weight : operations.getLast().cumulativeWeight() + weight;
+        operations.add(new WeightedOperation(endpoint, cumulativeWeight, factory));
+        stats.put(endpoint, new EndpointStats(endpoint));
+    }
+
+    private Map<String, Object> createBody(ThreadLocalRandom random) {
+        return Map.of(
+                "title", title(random),
+                "description", description(random),
+                "status", pick(random, STATUSES),
+                "priority", pick(random, PRIORITIES),
+                "dueDate", dueDate(random).toString());
+    }
+
+    private long seededId(ThreadLocalRandom random) {
+        return seededIds[random.nextInt(seededIds.length)];
+    }
+
+    private String nextTransactionId() {
+        return "LOADTEST" + transactionSequence.incrementAndGet();
+    }
+
+    private static String title(ThreadLocalRandom random) {
+        return pick(random, WORDS) + " " + pick(random, WORDS);
+    }
+
+    private static String description(ThreadLocalRandom random) {
+        return "Load test " + pick(random, WORDS) + " " + pick(random, WORDS) + " " + pick(random, WORDS);
+    }
+
+    private static LocalDate dueDate(ThreadLocalRandom random) {
+        return BASE_DUE_DATE.plusDays(random.nextInt(120) - 60);
+    }
+
+    private static String pick(ThreadLocalRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    record Request(EndpointStats stats, HttpRequest httpRequest) {
+    }
+
+    private record WeightedOperation(String endpoint, int cumulativeWeight,
+                                     Function<ThreadLocalRandom, HttpRequest> factory) {
+    }
+}
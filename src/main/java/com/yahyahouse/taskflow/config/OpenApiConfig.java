@@ -1,7 +1,11 @@
 package com.yahyahouse.taskflow.config;
 
+import com.yahyahouse.taskflow.util.transaction.TransactionContext;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.HeaderParameter;
+import org.springdoc.core.customizers.OpenApiCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -16,4 +20,14 @@ public class OpenApiConfig {
                         .description("API documentation for Task Flow Service")
                         .version("1.0.0"));
     }
+
+    @Bean
+    public OpenApiCustomizer transactionIdHeaderCustomizer() {
+        return openApi -> openApi.getPaths().values().forEach(path -> path.readOperations().forEach(operation ->
+                operation.addParametersItem(new HeaderParameter()
+                        .name(TransactionContext.HEADER_NAME)
+                        .description("Transaction id for tracing; generated when missing")
+                        .example("TEST202602220001")
+                        .schema(new StringSchema()))));
+    }
 }
@@ -0,0 +1,49 @@
+package com.yahyahouse.taskflow.config;
+
+import com.yahyahouse.taskflow.util.statement.StatementBudgetInterceptor;
+import com.yahyahouse.taskflow.util.statement.StatementRecordingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class StatementMonitoringConfig implements WebMvcConfigurer {
+
+    private final MeterRegistry meterRegistry;
+    private final boolean failOnBudgetExceeded;
+
+    public StatementMonitoringConfig(
+            MeterRegistry meterRegistry,
+            @Value("${taskflow.sql.budget.fail-on-exceed:false}") boolean failOnBudgetExceeded
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.failOnBudgetExceeded = failOnBudgetExceeded;
+    }
+
+    @Bean
+    public static BeanPostProcessor statementRecordingDataSourcePostProcessor(
+            @Value("${taskflow.sql.slow-query-threshold:PT0.2S}") Duration slowQueryThreshold
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof StatementRecordingDataSource)) {
+                    return new StatementRecordingDataSource(dataSource, slowQueryThreshold);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new StatementBudgetInterceptor(meterRegistry, failOnBudgetExceeded))
+                .addPathPatterns("/api/**");
+    }
+}
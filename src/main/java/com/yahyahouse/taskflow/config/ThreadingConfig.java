@@ -0,0 +1,53 @@
+package com.yahyahouse.taskflow.config;
+
+import com.yahyahouse.taskflow.util.transaction.TransactionContextTaskDecorator;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.sql.SQLException;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+
+@Configuration
+public class ThreadingConfig {
+
+    @Bean
+    public TaskDecorator transactionContextTaskDecorator() {
+        return new TransactionContextTaskDecorator();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+    public static BeanPostProcessor dataSourceConcurrencyLimiter(
+            @Value("${taskflow.datasource.limiter.max-concurrent:10}") int maxConcurrent,
+            @Value("${taskflow.datasource.limiter.acquire-timeout:PT30S}") Duration acquireTimeout
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConcurrencyLimitedDataSource)) {
+                    return new ConcurrencyLimitedDataSource(dataSource, maxConcurrent, acquireTimeout);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+    public MeterBinder dataSourceConcurrencyLimiterMetrics(DataSource dataSource) {
+        return registry -> {
+            try {
+                if (dataSource.isWrapperFor(ConcurrencyLimitedDataSource.class)) {
+                    dataSource.unwrap(ConcurrencyLimitedDataSource.class).bindTo(registry);
+                }
+            } catch (SQLException ex) {
+                throw new IllegalStateException("Could not unwrap the datasource limiter", ex);
+            }
+        };
+    }
+}
@@ -1,9 +1,10 @@
 package com.yahyahouse.taskflow.controller;
 
+import com.yahyahouse.taskflow.model.response.OverdueTaskPageResponse;
 import com.yahyahouse.taskflow.model.response.ReportSummaryResponse;
 import com.yahyahouse.taskflow.model.response.StatusCountResponse;
-import com.yahyahouse.taskflow.model.response.TaskResponse;
 import com.yahyahouse.taskflow.service.ReportService;
+import com.yahyahouse.taskflow.util.statement.StatementBudget;
 import com.yahyahouse.taskflow.util.transaction.TransactionContext;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -16,8 +17,8 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.List;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -32,6 +33,7 @@ public class ReportController {
     }
 
     @GetMapping("/summary")
+    @StatementBudget(1)
     @Operation(summary = "Summary Report", description = "Get task summary report.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Summary report",
@@ -41,14 +43,12 @@ public class ReportController {
             @ApiResponse(responseCode = "500", description = "Internal server error",
                     content = @Content(schema = @Schema(implementation = com.yahyahouse.taskflow.util.ErrorResponse.class)))
     })
-    public ResponseEntity<ReportSummaryResponse> getSummary(
-            @Parameter(description = "Transaction id for tracing", example = "TEST202602220001", required = true)
-            @RequestHeader(value = TransactionContext.HEADER_NAME, required = false) String transactionId
-    ) {
-        return ResponseEntity.ok(reportService.getSummary(transactionId));
+    public ResponseEntity<ReportSummaryResponse> getSummary() {
+        return ResponseEntity.ok(reportService.getSummary(TransactionContext.current()));
     }
 
     @GetMapping("/status-count")
+    @StatementBudget(1)
     @Operation(summary = "Status Count Report", description = "Get total tasks by status.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Status count report",
@@ -58,27 +58,28 @@ public class ReportController {
             @ApiResponse(responseCode = "500", description = "Internal server error",
                     content = @Content(schema = @Schema(implementation = com.yahyahouse.taskflow.util.ErrorResponse.class)))
     })
-    public ResponseEntity<List<StatusCountResponse>> getStatusCount(
-            @Parameter(description = "Transaction id for tracing", example = "TEST202602220001", required = true)
-            @RequestHeader(value = TransactionContext.HEADER_NAME, required = false) String transactionId
-    ) {
-        return ResponseEntity.ok(reportService.getStatusCount(transactionId));
+    public ResponseEntity<List<StatusCountResponse>> getStatusCount() {
+        return ResponseEntity.ok(reportService.getStatusCount(TransactionContext.current()));
     }
 
     @GetMapping("/overdue")
-    @Operation(summary = "Overdue Tasks Report", description = "Get overdue task list.")
+    @StatementBudget(2)
+    @Operation(summary = "Overdue Tasks Report",
+            description = "Get overdue tasks ordered by due date, paged by (dueDate, id) cursor.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Overdue tasks",
-                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = TaskResponse.class)))),
+                    content = @Content(schema = @Schema(implementation = OverdueTaskPageResponse.class))),
             @ApiResponse(responseCode = "400", description = "Bad request",
                     content = @Content(schema = @Schema(implementation = com.yahyahouse.taskflow.util.ErrorResponse.class))),
             @ApiResponse(responseCode = "500", description = "Internal server error",
                     content = @Content(schema = @Schema(implementation = com.yahyahouse.taskflow.util.ErrorResponse.class)))
     })
-    public ResponseEntity<List<TaskResponse>> getOverdueTasks(
-            @Parameter(description = "Transaction id for tracing", example = "TEST202602220001", required = true)
-            @RequestHeader(value = TransactionContext.HEADER_NAME, required = false) String transactionId
+    public ResponseEntity<OverdueTaskPageResponse> getOverdueTasks(
+            @Parameter(description = "Cursor returned as nextCursor by the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (1-500, default 50)", example = "50")
+            @RequestParam(required = false) Integer limit
     ) {
-        return ResponseEntity.ok(reportService.getOverdueTasks(transactionId));
+        return ResponseEntity.ok(reportService.getOverdueTasks(TransactionContext.current(), cursor, limit));
     }
 }
@@ -1,12 +1,22 @@
 package com.yahyahouse.taskflow.controller;
 
+import com.yahyahouse.taskflow.model.request.BatchTaskStatusItem;
 import com.yahyahouse.taskflow.model.request.CreateTaskRequest;
+import com.yahyahouse.taskflow.model.request.TransitionTaskStatusRequest;
 import com.yahyahouse.taskflow.model.request.UpdateTaskRequest;
 import com.yahyahouse.taskflow.model.request.UpdateTaskStatusRequest;
+import com.yahyahouse.taskflow.model.response.BatchTaskResponse;
+import com.yahyahouse.taskflow.model.response.TaskChangePageResponse;
+import com.yahyahouse.taskflow.model.response.TaskPageResponse;
+import com.yahyahouse.taskflow.model.response.TaskStreamEvent;
 import com.yahyahouse.taskflow.model.response.TaskResponse;
+import com.yahyahouse.taskflow.model.response.TransitionTaskStatusResponse;
 import com.yahyahouse.taskflow.model.enums.TaskPriority;
 import com.yahyahouse.taskflow.model.enums.TaskStatus;
 import com.yahyahouse.taskflow.service.TaskService;
+import com.yahyahouse.taskflow.util.ETagUtil;
+import com.yahyahouse.taskflow.util.ValidationUtil;
+import com.yahyahouse.taskflow.util.statement.StatementBudget;
 import com.yahyahouse.taskflow.util.transaction.TransactionContext;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -20,7 +30,9 @@ import jakarta.validation.Valid;
 import java.time.LocalDate;
 import java.util.List;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -33,12 +45,21 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/tasks")
 @Tag(name = "Tasks", description = "Task management endpoints")
 public class TaskController {
 
+    // Must match spring.jpa.properties.hibernate.jdbc.batch_size; StatementBudgetTest checks it.
+    static final int JDBC_BATCH_SIZE = 50;
+    // Per full chunk: one tasks_seq fetch or SELECT ... IN, plus one JDBC batch. One extra tasks_seq fetch
+    // when the pooled optimizer starts, and two for the change log (seq reservation and batch insert).
+    static final int BATCH_STATEMENT_BUDGET = 2 * (ValidationUtil.MAX_BATCH_SIZE / JDBC_BATCH_SIZE) + 3;
+
     private final TaskService taskService;
 
     public TaskController(TaskService taskService) {
@@ -46,9 +67,10 @@ public class TaskController {
     }
 
     @PostMapping
+    @StatementBudget(4)
     @Operation(
             summary = "Create Task",
-            description = "Create a new task. All create fields are mandatory and transactionId is taken from request header."
+            description = "Create a new task. All create fields are mandatory and transactionId is taken from the X-Transaction-Id header or generated."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Task created",
@@ -59,61 +81,252 @@ public class TaskController {
                     content = @Content(schema = @Schema(implementation = com.yahyahouse.taskflow.util.ErrorResponse.class)))
     })
     public ResponseEntity<TaskResponse> createTask(
-            @Parameter(description = "Transaction id for tracing", example = "TEST202602220001", required = true)
-            @RequestHeader(value = TransactionContext.HEADER_NAME, required = false) String transactionId,
             @Valid @RequestBody CreateTaskRequest request
     ) {
-        TaskResponse response = taskService.createTask(transactionId, request);
+        TaskResponse response = taskService.createTask(TransactionContext.current(), request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/batch")
+    @StatementBudget(BATCH_STATEMENT_BUDGET)
+    @Operation(
+            summary = "Create Tasks In Batch",
+            description = "Create up to 1000 tasks in one request. Each item is validated like Create Task and reported individually."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Per-item results",
+                    content = @Content(schema = @Schema(implementation = BatchTaskResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Bad request",
+                    content = @Content(schema = @Schema(implementation = com.yahyahouse.taskflow.util.ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(schema = @Schema(implementation = com.yahyahouse.taskflow.util.ErrorResponse.class)))
+    })
+    public ResponseEntity<BatchTaskResponse> createTasks(
+            @RequestBody List<CreateTaskRequest> requests
+    ) {
+        return ResponseEntity.ok(taskService.createTasks(TransactionContext.current(), requests));
+    }
+
+    @PatchMapping("/status/batch")
+    @StatementBudget(BATCH_STATEMENT_BUDGET)
+    @Operation(
+            summary = "Update Task Status In Batch",
+            description = "Update the status of up to 1000 tasks in one request. Each item is reported individually."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Per-item results",
+                    content = @Content(schema = @Schema(implementation = BatchTaskResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Bad request",
+                    content = @Content(schema = @Schema(implementation = com.yahyahouse.taskflow.util.ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(schema = @Schema(implementation = com.yahyahouse.taskflow.util.ErrorResponse.class)))
+    })
+    public ResponseEntity<BatchTaskResponse> updateTaskStatuses(
+            @RequestBody List<BatchTaskStatusItem> items
+    ) {
+        return ResponseEntity.ok(taskService.updateTaskStatuses(TransactionContext.current(), items));
+    }
+
+    @PatchMapping("/status/transition")
+    @StatementBudget(4)
+    @Operation(
+            summary = "Transition Task Status",
+            description = "Move every task matching the filters to targetStatus with a single UPDATE statement. "
+                    + "At least one filter is required."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Affected task count",
+                    content = @Content(schema = @Schema(implementation = TransitionTaskStatusResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Bad request",
+                    content = @Content(schema = @Schema(implementation = com.yahyahouse.taskflow.util.ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(schema = @Schema(implementation = com.yahyahouse.taskflow.util.ErrorResponse.class)))
+    })
+    public ResponseEntity<TransitionTaskStatusResponse> transitionTaskStatus(
+            @Valid @RequestBody TransitionTaskStatusRequest request
+    ) {
+        return ResponseEntity.ok(taskService.transitionTaskStatus(TransactionContext.current(), request));
+    }
+
     @GetMapping
-    @Operation(summary = "Get Tasks", description = "Get list of tasks with optional filters.")
+    @StatementBudget(1)
+    @Operation(
+            summary = "Get Tasks",
+            description = "Get a page of tasks with optional filters. Pass nextCursor from the previous page to continue."
+    )
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Task list",
+            @ApiResponse(responseCode = "200", description = "Task page",
+                    content = @Content(schema = @Schema(implementation = TaskPageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Bad request",
+                    content = @Content(schema = @Schema(implementation = com.yahyahouse.taskflow.util.ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(schema = @Schema(implementation = com.yahyahouse.taskflow.util.ErrorResponse.class)))
+    })
+    public ResponseEntity<byte[]> getTasks(
+            @Parameter(description = "Filter by status", example = "TODO")
+            @RequestParam(required = false) TaskStatus status,
+            @Parameter(description = "Filter by priority", example = "HIGH")
+            @RequestParam(required = false) TaskPriority priority,
+            @Parameter(description = "Filter by words (prefix) in title or description", example = "auth")
+            @RequestParam(required = false) String keyword,
+            @Parameter(description = "Filter due date from (yyyy-MM-dd)", example = "2026-02-20")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueDateFrom,
+            @Parameter(description = "Filter due date to (yyyy-MM-dd)", example = "2026-03-10")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueDateTo,
+            @Parameter(description = "Cursor returned as nextCursor by the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (1-500, default 50)", example = "50")
+            @RequestParam(required = false) Integer limit,
+            @Parameter(description = "full (default) or summary to leave out description", example = "summary")
+            @RequestParam(required = false) String view
+    ) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(taskService.getTasksJson(
+                        TransactionContext.current(), status, priority, keyword, dueDateFrom, dueDateTo, cursor, limit, view));
+    }
+
+    @GetMapping("/search")
+    @StatementBudget(1)
+    @Operation(
+            summary = "Search Tasks",
+            description = "Full-text search over title and description with prefix matching, ordered by relevance."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Matching tasks",
                     content = @Content(array = @ArraySchema(schema = @Schema(implementation = TaskResponse.class)))),
             @ApiResponse(responseCode = "400", description = "Bad request",
                     content = @Content(schema = @Schema(implementation = com.yahyahouse.taskflow.util.ErrorResponse.class))),
+            @ApiResponse(responseCode = "503", description = "Search index is not ready",
+                    content = @Content(schema = @Schema(implementation = com.yahyahouse.taskflow.util.ErrorResponse.class)))
+    })
+    public ResponseEntity<List<TaskResponse>> searchTasks(
+            @Parameter(description = "Search terms, each matched as a word prefix", example = "auth jwt", required = true)
+            @RequestParam(required = false) String q,
+            @Parameter(description = "Filter by status", example = "TODO")
+            @RequestParam(required = false) TaskStatus status,
+            @Parameter(description = "Filter by priority", example = "HIGH")
+            @RequestParam(required = false) TaskPriority priority,
+            @Parameter(description = "Filter due date from (yyyy-MM-dd)", example = "2026-02-20")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueDateFrom,
+            @Parameter(description = "Filter due date to (yyyy-MM-dd)", example = "2026-03-10")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueDateTo,
+            @Parameter(description = "Maximum results (1-500, default 50)", example = "20")
+            @RequestParam(required = false) Integer limit
+    ) {
+        return ResponseEntity.ok(taskService.searchTasks(
+                TransactionContext.current(), q, status, priority, dueDateFrom, dueDateTo, limit));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "Stream Tasks",
+            description = "Server-Sent Events for task changes (event task), due-soon/overdue notices (event due) "
+                    + "and resync hints (event resync). Updates to the same task are coalesced while a client lags."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Event stream",
+                    content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                            schema = @Schema(implementation = TaskStreamEvent.class))),
+            @ApiResponse(responseCode = "400", description = "Bad request",
+                    content = @Content(schema = @Schema(implementation = com.yahyahouse.taskflow.util.ErrorResponse.class))),
+            @ApiResponse(responseCode = "503", description = "Too many stream subscribers",
+                    content = @Content(schema = @Schema(implementation = com.yahyahouse.taskflow.util.ErrorResponse.class)))
+    })
+    public SseEmitter streamTasks(
+            @Parameter(description = "Filter by status", example = "TODO")
+            @RequestParam(required = false) TaskStatus status,
+            @Parameter(description = "Filter by priority", example = "HIGH")
+            @RequestParam(required = false) TaskPriority priority
+    ) {
+        return taskService.streamTasks(TransactionContext.current(), status, priority);
+    }
+
+    @GetMapping("/changes")
+    @StatementBudget(2)
+    @Operation(
+            summary = "Task Changes",
+            description = "Changes after the since cursor in change order, one item per task with its latest state; "
+                    + "deleted tasks come back as DELETED tombstones."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Changes page",
+                    content = @Content(schema = @Schema(implementation = TaskChangePageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Bad request",
+                    content = @Content(schema = @Schema(implementation = com.yahyahouse.taskflow.util.ErrorResponse.class))),
+            @ApiResponse(responseCode = "410", description = "since is older than the change log retention",
+                    content = @Content(schema = @Schema(implementation = com.yahyahouse.taskflow.util.ErrorResponse.class)))
+    })
+    public ResponseEntity<TaskChangePageResponse> getChanges(
+            @Parameter(description = "Cursor returned as nextCursor by the previous call; omit to read from the "
+                    + "oldest retained change, or pass now to get the current head cursor without items")
+            @RequestParam(required = false) String since,
+            @Parameter(description = "Maximum changes (1-500, default 50)", example = "100")
+            @RequestParam(required = false) Integer limit
+    ) {
+        return ResponseEntity.ok(taskService.getChanges(TransactionContext.current(), since, limit));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+            summary = "Export Tasks",
+            description = "Stream all tasks matching the filters as newline-delimited JSON (one TaskResponse per line)."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Task export stream",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = TaskResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Bad request",
+                    content = @Content(schema = @Schema(implementation = com.yahyahouse.taskflow.util.ErrorResponse.class))),
             @ApiResponse(responseCode = "500", description = "Internal server error",
                     content = @Content(schema = @Schema(implementation = com.yahyahouse.taskflow.util.ErrorResponse.class)))
     })
-    public ResponseEntity<List<TaskResponse>> getTasks(
-            @Parameter(description = "Transaction id for tracing", example = "TEST202602220001", required = true)
-            @RequestHeader(value = TransactionContext.HEADER_NAME, required = false) String transactionId,
+    public ResponseEntity<StreamingResponseBody> exportTasks(
             @Parameter(description = "Filter by status", example = "TODO")
             @RequestParam(required = false) TaskStatus status,
             @Parameter(description = "Filter by priority", example = "HIGH")
             @RequestParam(required = false) TaskPriority priority,
-            @Parameter(description = "Filter by keyword in title", example = "auth")
+            @Parameter(description = "Filter by words (prefix) in title or description", example = "auth")
             @RequestParam(required = false) String keyword,
             @Parameter(description = "Filter due date from (yyyy-MM-dd)", example = "2026-02-20")
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueDateFrom,
             @Parameter(description = "Filter due date to (yyyy-MM-dd)", example = "2026-03-10")
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueDateTo
     ) {
-        return ResponseEntity.ok(taskService.getTasks(transactionId, status, priority, keyword, dueDateFrom, dueDateTo));
+        StreamingResponseBody body = taskService.exportTasks(
+                TransactionContext.current(), status, priority, keyword, dueDateFrom, dueDateTo);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     @GetMapping("/{id}")
+    @StatementBudget(1)
     @Operation(summary = "Get Task By Id", description = "Get detail task by id.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Task found",
                     content = @Content(schema = @Schema(implementation = TaskResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Task unchanged since the ETag sent in If-None-Match"),
             @ApiResponse(responseCode = "400", description = "Bad request",
                     content = @Content(schema = @Schema(implementation = com.yahyahouse.taskflow.util.ErrorResponse.class))),
             @ApiResponse(responseCode = "404", description = "Task not found",
                     content = @Content(schema = @Schema(implementation = com.yahyahouse.taskflow.util.ErrorResponse.class)))
     })
     public ResponseEntity<TaskResponse> getTaskById(
-            @Parameter(description = "Transaction id for tracing", example = "TEST202602220001", required = true)
-            @RequestHeader(value = TransactionContext.HEADER_NAME, required = false) String transactionId,
             @Parameter(description = "Task id", example = "1", required = true)
-            @PathVariable Long id
+            @PathVariable Long id,
+            WebRequest webRequest
     ) {
-        return ResponseEntity.ok(taskService.getTaskById(transactionId, id));
+        TaskResponse response = taskService.getTaskById(TransactionContext.current(), id);
+        String eTag = ETagUtil.toETag(response.getVersion());
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(response);
     }
 
     @PutMapping("/{id}")
+    @StatementBudget(4)
     @Operation(summary = "Update Task", description = "Update task data by id.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Task updated",
@@ -121,19 +334,26 @@ public class TaskController {
             @ApiResponse(responseCode = "400", description = "Bad request",
                     content = @Content(schema = @Schema(implementation = com.yahyahouse.taskflow.util.ErrorResponse.class))),
             @ApiResponse(responseCode = "404", description = "Task not found",
+                    content = @Content(schema = @Schema(implementation = com.yahyahouse.taskflow.util.ErrorResponse.class))),
+            @ApiResponse(responseCode = "409", description = "Task was modified concurrently",
+                    content = @Content(schema = @Schema(implementation = com.yahyahouse.taskflow.util.ErrorResponse.class))),
+            @ApiResponse(responseCode = "412", description = "If-Match does not match the current version",
                     content = @Content(schema = @Schema(implementation = com.yahyahouse.taskflow.util.ErrorResponse.class)))
     })
     public ResponseEntity<TaskResponse> updateTask(
-            @Parameter(description = "Transaction id for tracing", example = "TEST202602220001", required = true)
-            @RequestHeader(value = TransactionContext.HEADER_NAME, required = false) String transactionId,
             @Parameter(description = "Task id", example = "1", required = true)
             @PathVariable Long id,
+            @Parameter(description = "ETag from a previous response; the write only applies to that version", example = "\"3\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody UpdateTaskRequest request
     ) {
-        return ResponseEntity.ok(taskService.updateTask(transactionId, id, request));
+        TaskResponse response = taskService.updateTask(
+                TransactionContext.current(), id, request, ETagUtil.parseIfMatchVersion(ifMatch));
+        return ResponseEntity.ok().eTag(ETagUtil.toETag(response.getVersion())).body(response);
     }
 
     @PatchMapping("/{id}/status")
+    @StatementBudget(4)
     @Operation(summary = "Update Task Status", description = "Update only task status by id.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Task status updated",
@@ -141,34 +361,45 @@ public class TaskController {
             @ApiResponse(responseCode = "400", description = "Bad request",
                     content = @Content(schema = @Schema(implementation = com.yahyahouse.taskflow.util.ErrorResponse.class))),
             @ApiResponse(responseCode = "404", description = "Task not found",
+                    content = @Content(schema = @Schema(implementation = com.yahyahouse.taskflow.util.ErrorResponse.class))),
+            @ApiResponse(responseCode = "409", description = "Task was modified concurrently",
+                    content = @Content(schema = @Schema(implementation = com.yahyahouse.taskflow.util.ErrorResponse.class))),
+            @ApiResponse(responseCode = "412", description = "If-Match does not match the current version",
                     content = @Content(schema = @Schema(implementation = com.yahyahouse.taskflow.util.ErrorResponse.class)))
     })
     public ResponseEntity<TaskResponse> updateTaskStatus(
-            @Parameter(description = "Transaction id for tracing", example = "TEST202602220001", required = true)
-            @RequestHeader(value = TransactionContext.HEADER_NAME, required = false) String transactionId,
             @Parameter(description = "Task id", example = "1", required = true)
             @PathVariable Long id,
+            @Parameter(description = "ETag from a previous response; the write only applies to that version", example = "\"3\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody UpdateTaskStatusRequest request
     ) {
-        return ResponseEntity.ok(taskService.updateTaskStatus(transactionId, id, request));
+        TaskResponse response = taskService.updateTaskStatus(
+                TransactionContext.current(), id, request, ETagUtil.parseIfMatchVersion(ifMatch));
+        return ResponseEntity.ok().eTag(ETagUtil.toETag(response.getVersion())).body(response);
     }
 
     @DeleteMapping("/{id}")
+    @StatementBudget(4)
     @Operation(summary = "Delete Task", description = "Delete task by id.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "Task deleted"),
             @ApiResponse(responseCode = "400", description = "Bad request",
                     content = @Content(schema = @Schema(implementation = com.yahyahouse.taskflow.util.ErrorResponse.class))),
             @ApiResponse(responseCode = "404", description = "Task not found",
+                    content = @Content(schema = @Schema(implementation = com.yahyahouse.taskflow.util.ErrorResponse.class))),
+            @ApiResponse(responseCode = "409", description = "Task was modified concurrently",
+                    content = @Content(schema = @Schema(implementation = com.yahyahouse.taskflow.util.ErrorResponse.class))),
+            @ApiResponse(responseCode = "412", description = "If-Match does not match the current version",
                     content = @Content(schema = @Schema(implementation = com.yahyahouse.taskflow.util.ErrorResponse.class)))
     })
     public ResponseEntity<Void> deleteTask(
-            @Parameter(description = "Transaction id for tracing", example = "TEST202602220001", required = true)
-            @RequestHeader(value = TransactionContext.HEADER_NAME, required = false) String transactionId,
             @Parameter(description = "Task id", example = "1", required = true)
-            @PathVariable Long id
+            @PathVariable Long id,
+            @Parameter(description = "ETag from a previous response; the write only applies to that version", example = "\"3\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) {
-        taskService.deleteTask(transactionId, id);
+        taskService.deleteTask(TransactionContext.current(), id, ETagUtil.parseIfMatchVersion(ifMatch));
         return ResponseEntity.noContent().build();
     }
 }
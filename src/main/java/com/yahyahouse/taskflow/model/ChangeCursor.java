@@ -0,0 +1,44 @@
+package com.yahyahouse.taskflow.model;
+
+import com.yahyahouse.taskflow.util.CommonUtil;
+import com.yahyahouse.taskflow.util.TaskFlowException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.springframework.http.HttpStatus;
+
+public record ChangeCursor(long seq) {
+
+    public static final String NOW = "now";
+
+    public static boolean isNow(String cursor) {
+        return NOW.equalsIgnoreCase(CommonUtil.trimToNull(cursor));
+    }
+
+    public static ChangeCursor decode(String cursor) {
+        String normalizedCursor = CommonUtil.trimToNull(cursor);
+        if (normalizedCursor == null) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(normalizedCursor), StandardCharsets.UTF_8);
+            long seq = Long.parseLong(raw);
+            if (seq < 0) {
+                throw invalidCursor(null);
+            }
+            return new ChangeCursor(seq);
+        } catch (TaskFlowException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw invalidCursor(ex);
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(
+                Long.toString(seq).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static TaskFlowException invalidCursor(Throwable cause) {
+        return new TaskFlowException("since is invalid", cause, HttpStatus.BAD_REQUEST.value());
+    }
+}
@@ -0,0 +1,54 @@
+package com.yahyahouse.taskflow.model;
+
+import com.yahyahouse.taskflow.model.event.TaskSnapshot;
+import com.yahyahouse.taskflow.util.CommonUtil;
+import com.yahyahouse.taskflow.util.TaskFlowException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+import org.springframework.http.HttpStatus;
+
+public record OverdueCursor(LocalDate dueDate, Long id) implements Comparable<OverdueCursor> {
+
+    private static final char SEPARATOR = '|';
+
+    public static OverdueCursor of(TaskSnapshot task) {
+        return new OverdueCursor(task.dueDate(), task.id());
+    }
+
+    public static OverdueCursor decode(String cursor) {
+        String normalizedCursor = CommonUtil.trimToNull(cursor);
+        if (normalizedCursor == null) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(normalizedCursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            if (separatorIndex <= 0) {
+                throw invalidCursor(null);
+            }
+            LocalDate dueDate = LocalDate.parse(raw.substring(0, separatorIndex));
+            long id = Long.parseLong(raw.substring(separatorIndex + 1));
+            return new OverdueCursor(dueDate, id);
+        } catch (TaskFlowException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw invalidCursor(ex);
+        }
+    }
+
+    public String encode() {
+        String raw = dueDate.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public int compareTo(OverdueCursor other) {
+        int compare = dueDate.compareTo(other.dueDate);
+        return compare != 0 ? compare : Long.compare(id, other.id);
+    }
+
+    private static TaskFlowException invalidCursor(Throwable cause) {
+        return new TaskFlowException("cursor is invalid", cause, HttpStatus.BAD_REQUEST.value());
+    }
+}
@@ -0,0 +1,48 @@
+package com.yahyahouse.taskflow.model;
+
+import com.yahyahouse.taskflow.model.event.TaskSnapshot;
+import com.yahyahouse.taskflow.util.CommonUtil;
+import com.yahyahouse.taskflow.util.TaskFlowException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import org.springframework.http.HttpStatus;
+
+public record TaskCursor(LocalDateTime createdAt, Long id) {
+
+    private static final char SEPARATOR = '|';
+
+    public static TaskCursor of(TaskSnapshot task) {
+        return new TaskCursor(task.createdAt(), task.id());
+    }
+
+    public static TaskCursor decode(String cursor) {
+        String normalizedCursor = CommonUtil.trimToNull(cursor);
+        if (normalizedCursor == null) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(normalizedCursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            if (separatorIndex <= 0) {
+                throw invalidCursor(null);
+            }
+            LocalDateTime createdAt = LocalDateTime.parse(raw.substring(0, separatorIndex));
+            long id = Long.parseLong(raw.substring(separatorIndex + 1));
+            return new TaskCursor(createdAt, id);
+        } catch (TaskFlowException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw invalidCursor(ex);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static TaskFlowException invalidCursor(Throwable cause) {
+        return new TaskFlowException("cursor is invalid", cause, HttpStatus.BAD_REQUEST.value());
+    }
+}
@@ -0,0 +1,34 @@
+package com.yahyahouse.taskflow.model;
+
+import com.yahyahouse.taskflow.model.enums.TaskPriority;
+import com.yahyahouse.taskflow.model.enums.TaskStatus;
+import com.yahyahouse.taskflow.util.CommonUtil;
+import java.time.LocalDate;
+import java.util.List;
+
+public record TaskFilter(
+        TaskStatus status,
+        TaskPriority priority,
+        String keyword,
+        LocalDate dueDateFrom,
+        LocalDate dueDateTo
+) {
+
+    public static TaskFilter of(
+            TaskStatus status,
+            TaskPriority priority,
+            String keyword,
+            LocalDate dueDateFrom,
+            LocalDate dueDateTo
+    ) {
+        return new TaskFilter(status, priority, CommonUtil.trimToNull(keyword), dueDateFrom, dueDateTo);
+    }
+
+    public boolean hasKeyword() {
+        return keyword != null;
+    }
+
+    public List<String> keywordTokens() {
+        return CommonUtil.tokenize(keyword);
+    }
+}
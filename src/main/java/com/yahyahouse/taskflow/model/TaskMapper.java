@@ -1,8 +1,9 @@
 package com.yahyahouse.taskflow.model;
 
 import com.yahyahouse.taskflow.model.response.TaskResponse;
+import com.yahyahouse.taskflow.model.response.TaskSummaryResponse;
 import com.yahyahouse.taskflow.model.entity.Task;
-import com.yahyahouse.taskflow.util.CommonUtil;
+import com.yahyahouse.taskflow.model.event.TaskSnapshot;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -15,11 +16,34 @@ public class TaskMapper {
         response.setDescription(task.getDescription());
         response.setStatus(task.getStatus());
         response.setPriority(task.getPriority());
-        response.setDueDate(CommonUtil.formatDate(task.getDueDate()));
-        response.setCreatedAt(CommonUtil.formatDateTime(task.getCreatedAt()));
-        response.setUpdatedAt(CommonUtil.formatDateTime(task.getUpdatedAt()));
+        response.setDueDate(task.getDueDate());
+        response.setCreatedAt(task.getCreatedAt());
+        response.setUpdatedAt(task.getUpdatedAt());
+        response.setVersion(task.getVersion());
         response.setTransactionId(transactionId);
         return response;
     }
-}
 
+    public TaskResponse toResponse(TaskSnapshot task, String transactionId) {
+        TaskResponse response = new TaskResponse();
+        response.setDescription(task.description());
+        return fill(response, task, transactionId);
+    }
+
+    public TaskSummaryResponse toSummaryResponse(TaskSnapshot task, String transactionId) {
+        return fill(new TaskSummaryResponse(), task, transactionId);
+    }
+
+    private <T extends TaskSummaryResponse> T fill(T response, TaskSnapshot task, String transactionId) {
+        response.setId(task.id());
+        response.setTitle(task.title());
+        response.setStatus(task.status());
+        response.setPriority(task.priority());
+        response.setDueDate(task.dueDate());
+        response.setCreatedAt(task.createdAt());
+        response.setUpdatedAt(task.updatedAt());
+        response.setVersion(task.version());
+        response.setTransactionId(transactionId);
+        return response;
+    }
+}
@@ -0,0 +1,37 @@
+package com.yahyahouse.taskflow.model.entity;
+
+import com.yahyahouse.taskflow.model.enums.TaskChangeType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Setter
+@Getter
+@Entity
+@Table(name = "task_changes", indexes = {
+        @Index(name = "idx_task_changes_changed_at", columnList = "changed_at")
+})
+public class TaskChange {
+
+    @Id
+    private Long seq;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 20)
+    private TaskChangeType type;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+}
@@ -0,0 +1,23 @@
+package com.yahyahouse.taskflow.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Setter
+@Getter
+@Entity
+@Table(name = "task_change_sequence")
+public class TaskChangeSequence {
+
+    @Id
+    private Long id;
+
+    @Column(name = "last_seq", nullable = false)
+    private Long lastSeq;
+
+}
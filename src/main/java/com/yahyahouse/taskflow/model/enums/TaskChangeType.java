@@ -0,0 +1,8 @@
+package com.yahyahouse.taskflow.model.enums;
+
+public enum TaskChangeType {
+    CREATED,
+    UPDATED,
+    STATUS_CHANGED,
+    DELETED
+}
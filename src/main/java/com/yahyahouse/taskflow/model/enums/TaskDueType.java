@@ -0,0 +1,6 @@
+package com.yahyahouse.taskflow.model.enums;
+
+public enum TaskDueType {
+    DUE_SOON,
+    OVERDUE
+}
@@ -3,6 +3,10 @@ package com.yahyahouse.taskflow.model.enums;
 public enum TaskStatus {
     TODO,
     IN_PROGRESS,
-    DONE
+    DONE;
+
+    public boolean isOpen() {
+        return this != DONE;
+    }
 }
 
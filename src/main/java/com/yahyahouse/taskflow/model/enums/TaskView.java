@@ -0,0 +1,6 @@
+package com.yahyahouse.taskflow.model.enums;
+
+public enum TaskView {
+    FULL,
+    SUMMARY
+}
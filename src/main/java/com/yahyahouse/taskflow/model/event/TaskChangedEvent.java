@@ -0,0 +1,26 @@
+package com.yahyahouse.taskflow.model.event;
+
+import com.yahyahouse.taskflow.model.enums.TaskChangeType;
+
+public record TaskChangedEvent(TaskChangeType type, TaskSnapshot before, TaskSnapshot after) {
+
+    public static TaskChangedEvent created(TaskSnapshot after) {
+        return new TaskChangedEvent(TaskChangeType.CREATED, null, after);
+    }
+
+    public static TaskChangedEvent updated(TaskSnapshot before, TaskSnapshot after) {
+        return new TaskChangedEvent(TaskChangeType.UPDATED, before, after);
+    }
+
+    public static TaskChangedEvent statusChanged(TaskSnapshot before, TaskSnapshot after) {
+        return new TaskChangedEvent(TaskChangeType.STATUS_CHANGED, before, after);
+    }
+
+    public static TaskChangedEvent deleted(TaskSnapshot before) {
+        return new TaskChangedEvent(TaskChangeType.DELETED, before, null);
+    }
+
+    public Long taskId() {
+        return after != null ? after.id() : before.id();
+    }
+}
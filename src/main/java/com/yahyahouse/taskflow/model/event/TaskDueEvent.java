@@ -0,0 +1,6 @@
+package com.yahyahouse.taskflow.model.event;
+
+import com.yahyahouse.taskflow.model.enums.TaskDueType;
+
+public record TaskDueEvent(TaskDueType type, TaskSnapshot task) {
+}
@@ -0,0 +1,39 @@
+package com.yahyahouse.taskflow.model.event;
+
+import com.yahyahouse.taskflow.model.entity.Task;
+import com.yahyahouse.taskflow.model.enums.TaskPriority;
+import com.yahyahouse.taskflow.model.enums.TaskStatus;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public record TaskSnapshot(
+        Long id,
+        String title,
+        String description,
+        TaskStatus status,
+        TaskPriority priority,
+        LocalDate dueDate,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long version
+) {
+
+    public static TaskSnapshot of(Task task) {
+        return new TaskSnapshot(
+                task.getId(),
+                task.getTitle(),
+                task.getDescription(),
+                task.getStatus(),
+                task.getPriority(),
+                task.getDueDate(),
+                task.getCreatedAt(),
+                task.getUpdatedAt(),
+                task.getVersion()
+        );
+    }
+
+    public TaskSnapshot withStatus(TaskStatus newStatus, LocalDateTime newUpdatedAt) {
+        return new TaskSnapshot(
+                id, title, description, newStatus, priority, dueDate, createdAt, newUpdatedAt, version + 1);
+    }
+}
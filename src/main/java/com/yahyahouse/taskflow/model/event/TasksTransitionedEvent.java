@@ -0,0 +1,29 @@
+package com.yahyahouse.taskflow.model.event;
+
+import com.yahyahouse.taskflow.model.enums.TaskStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public record TasksTransitionedEvent(
+        Map<TaskStatus, Long> fromCounts,
+        TaskStatus targetStatus,
+        LocalDateTime updatedAt,
+        Map<Long, TaskStatus> previousStatuses
+) {
+
+    public Set<Long> taskIds() {
+        return previousStatuses.keySet();
+    }
+
+    public List<Long> reopenedTaskIds() {
+        if (!targetStatus.isOpen()) {
+            return List.of();
+        }
+        return previousStatuses.entrySet().stream()
+                .filter(entry -> !entry.getValue().isOpen())
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+}
@@ -0,0 +1,14 @@
+package com.yahyahouse.taskflow.model.request;
+
+import com.yahyahouse.taskflow.model.enums.TaskStatus;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class BatchTaskStatusItem {
+
+    private Long id;
+    private TaskStatus status;
+
+}
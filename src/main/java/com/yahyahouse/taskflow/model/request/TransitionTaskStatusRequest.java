@@ -0,0 +1,27 @@
+package com.yahyahouse.taskflow.model.request;
+
+import com.yahyahouse.taskflow.model.enums.TaskPriority;
+import com.yahyahouse.taskflow.model.enums.TaskStatus;
+import com.yahyahouse.taskflow.util.transaction.TransactionAware;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+public class TransitionTaskStatusRequest implements TransactionAware {
+
+    private String transactionId;
+
+    private TaskStatus status;
+    private TaskPriority priority;
+    private String keyword;
+    private LocalDate dueDateFrom;
+    private LocalDate dueDateTo;
+
+    @NotNull(message = "targetStatus is required")
+    private TaskStatus targetStatus;
+
+}
@@ -0,0 +1,20 @@
+package com.yahyahouse.taskflow.model.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class BatchTaskItemResponse {
+
+    private int index;
+    private Long id;
+    private boolean success;
+    private int httpStatus;
+    private String errorMessage;
+
+}
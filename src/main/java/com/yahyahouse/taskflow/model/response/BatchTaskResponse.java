@@ -0,0 +1,19 @@
+package com.yahyahouse.taskflow.model.response;
+
+import com.yahyahouse.taskflow.util.transaction.TransactionAware;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class BatchTaskResponse implements TransactionAware {
+
+    private String transactionId;
+
+    private int total;
+    private int succeeded;
+    private int failed;
+    private List<BatchTaskItemResponse> results;
+
+}
@@ -0,0 +1,19 @@
+package com.yahyahouse.taskflow.model.response;
+
+import com.yahyahouse.taskflow.util.transaction.TransactionAware;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class TaskChangePageResponse implements TransactionAware {
+
+    private String transactionId;
+
+    private List<TaskChangeResponse> items;
+    private int limit;
+    private String nextCursor;
+    private boolean hasMore;
+
+}
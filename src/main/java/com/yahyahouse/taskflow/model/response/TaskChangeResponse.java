@@ -0,0 +1,25 @@
+package com.yahyahouse.taskflow.model.response;
+
+import com.yahyahouse.taskflow.model.enums.TaskChangeType;
+import com.yahyahouse.taskflow.util.TaskDateTimeSerializer;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import tools.jackson.databind.annotation.JsonSerialize;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskChangeResponse {
+
+    private long seq;
+    private Long taskId;
+    private TaskChangeType type;
+    @JsonSerialize(using = TaskDateTimeSerializer.class)
+    private LocalDateTime changedAt;
+    private TaskResponse task;
+
+}
@@ -0,0 +1,18 @@
+package com.yahyahouse.taskflow.model.response;
+
+import com.yahyahouse.taskflow.util.transaction.TransactionAware;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class TaskPageResponse implements TransactionAware {
+
+    private String transactionId;
+
+    private List<TaskSummaryResponse> items;
+    private int limit;
+    private String nextCursor;
+
+}
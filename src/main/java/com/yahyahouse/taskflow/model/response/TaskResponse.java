@@ -1,27 +1,17 @@
 package com.yahyahouse.taskflow.model.response;
 
-import com.yahyahouse.taskflow.model.enums.TaskPriority;
-import com.yahyahouse.taskflow.model.enums.TaskStatus;
-import com.yahyahouse.taskflow.util.transaction.TransactionAware;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import lombok.Getter;
 import lombok.Setter;
 
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-
 @Getter
 @Setter
-public class TaskResponse implements TransactionAware {
-
-    private String transactionId;
+@JsonPropertyOrder({
+        "transactionId", "id", "title", "description", "status", "priority",
+        "dueDate", "createdAt", "updatedAt", "version"
+})
+public class TaskResponse extends TaskSummaryResponse {
 
-    private Long id;
-    private String title;
     private String description;
-    private TaskStatus status;
-    private TaskPriority priority;
-    private String dueDate;
-    private String createdAt;
-    private String updatedAt;
 
 }
@@ -0,0 +1,18 @@
+package com.yahyahouse.taskflow.model.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskStreamEvent {
+
+    private String type;
+    private Long taskId;
+    private TaskResponse task;
+
+}
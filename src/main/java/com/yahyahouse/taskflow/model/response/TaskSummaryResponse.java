@@ -0,0 +1,33 @@
+package com.yahyahouse.taskflow.model.response;
+
+import com.yahyahouse.taskflow.model.enums.TaskPriority;
+import com.yahyahouse.taskflow.model.enums.TaskStatus;
+import com.yahyahouse.taskflow.util.TaskDateSerializer;
+import com.yahyahouse.taskflow.util.TaskDateTimeSerializer;
+import com.yahyahouse.taskflow.util.transaction.TransactionAware;
+import lombok.Getter;
+import lombok.Setter;
+import tools.jackson.databind.annotation.JsonSerialize;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+public class TaskSummaryResponse implements TransactionAware {
+
+    private String transactionId;
+
+    private Long id;
+    private String title;
+    private TaskStatus status;
+    private TaskPriority priority;
+    @JsonSerialize(using = TaskDateSerializer.class)
+    private LocalDate dueDate;
+    @JsonSerialize(using = TaskDateTimeSerializer.class)
+    private LocalDateTime createdAt;
+    @JsonSerialize(using = TaskDateTimeSerializer.class)
+    private LocalDateTime updatedAt;
+    private Long version;
+
+}
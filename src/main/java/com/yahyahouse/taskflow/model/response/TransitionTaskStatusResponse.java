@@ -0,0 +1,19 @@
+package com.yahyahouse.taskflow.model.response;
+
+import com.yahyahouse.taskflow.model.enums.TaskStatus;
+import com.yahyahouse.taskflow.util.transaction.TransactionAware;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class TransitionTaskStatusResponse implements TransactionAware {
+
+    private String transactionId;
+
+    private TaskStatus targetStatus;
+    private long affected;
+
+}
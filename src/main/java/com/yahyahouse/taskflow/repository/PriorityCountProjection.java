@@ -0,0 +1,8 @@
+package com.yahyahouse.taskflow.repository;
+
+public interface PriorityCountProjection {
+
+    String getPriority();
+
+    Long getTotal();
+}
@@ -0,0 +1,14 @@
+package com.yahyahouse.taskflow.repository;
+
+import com.yahyahouse.taskflow.model.entity.TaskChange;
+import java.util.List;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface TaskChangeAppendRepository {
+
+    @Transactional
+    void appendAll(List<TaskChange> changes);
+
+    @Transactional
+    void seedSequence();
+}
@@ -0,0 +1,87 @@
+package com.yahyahouse.taskflow.repository;
+
+import com.yahyahouse.taskflow.model.entity.TaskChange;
+import jakarta.persistence.EntityManager;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+import org.hibernate.Session;
+
+public class TaskChangeAppendRepositoryImpl implements TaskChangeAppendRepository {
+
+    private static final String RESERVE_SQL = """
+            SELECT last_seq FROM FINAL TABLE (
+                UPDATE task_change_sequence SET last_seq = last_seq + ? WHERE id = 1
+            )
+            """;
+    private static final String SEED_SQL = """
+            MERGE INTO task_change_sequence s
+            USING (SELECT 1 AS id, COALESCE(MAX(seq), 0) AS last_seq FROM task_changes) c ON s.id = c.id
+            WHEN NOT MATCHED THEN INSERT (id, last_seq) VALUES (c.id, c.last_seq)
+            """;
+    private static final String INSERT_SQL =
+            "INSERT INTO task_changes (seq, task_id, change_type, changed_at) VALUES (?, ?, ?, ?)";
+
+    private final EntityManager entityManager;
+
+    public TaskChangeAppendRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public void appendAll(List<TaskChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            long lastSeq = reserve(connection, changes.size());
+            long seq = lastSeq - changes.size();
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL)) {
+                for (TaskChange change : changes) {
+                    change.setSeq(++seq);
+                    statement.setLong(1, change.getSeq());
+                    statement.setLong(2, change.getTaskId());
+                    statement.setString(3, change.getType().name());
+                    statement.setTimestamp(4, Timestamp.valueOf(change.getChangedAt()));
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        });
+    }
+
+    @Override
+    public void seedSequence() {
+        entityManager.unwrap(Session.class).doWork(this::seed);
+    }
+
+    private long reserve(Connection connection, int count) throws SQLException {
+        Long lastSeq = tryReserve(connection, count);
+        if (lastSeq == null) {
+            seed(connection);
+            lastSeq = tryReserve(connection, count);
+        }
+        if (lastSeq == null) {
+            throw new SQLException("task_change_sequence row is missing");
+        }
+        return lastSeq;
+    }
+
+    private Long tryReserve(Connection connection, int count) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(RESERVE_SQL)) {
+            statement.setInt(1, count);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? resultSet.getLong(1) : null;
+            }
+        }
+    }
+
+    private void seed(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(SEED_SQL)) {
+            statement.executeUpdate();
+        }
+    }
+}
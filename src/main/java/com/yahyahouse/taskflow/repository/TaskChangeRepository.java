@@ -0,0 +1,30 @@
+package com.yahyahouse.taskflow.repository;
+
+import com.yahyahouse.taskflow.model.entity.TaskChange;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface TaskChangeRepository extends JpaRepository<TaskChange, Long>, TaskChangeAppendRepository {
+
+    @Query("""
+            SELECT c FROM TaskChange c
+            WHERE c.seq > :since
+            ORDER BY c.seq
+            """)
+    List<TaskChange> findPage(@Param("since") long since, Limit limit);
+
+    @Query("SELECT MAX(c.seq) FROM TaskChange c")
+    Long findMaxSeq();
+
+    @Query("SELECT MAX(c.seq) FROM TaskChange c WHERE c.changedAt < :cutoff")
+    Long findMaxSeqBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    @Modifying
+    @Query("DELETE FROM TaskChange c WHERE c.seq <= :seq")
+    int deleteThrough(@Param("seq") long seq);
+}
@@ -0,0 +1,23 @@
+package com.yahyahouse.taskflow.repository;
+
+import com.yahyahouse.taskflow.model.enums.TaskPriority;
+import com.yahyahouse.taskflow.model.enums.TaskStatus;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public interface TaskIndexProjection {
+
+    Long getId();
+
+    String getTitle();
+
+    String getDescription();
+
+    TaskStatus getStatus();
+
+    TaskPriority getPriority();
+
+    LocalDate getDueDate();
+
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,47 @@
+package com.yahyahouse.taskflow.repository;
+
+import com.yahyahouse.taskflow.model.OverdueCursor;
+import com.yahyahouse.taskflow.model.TaskCursor;
+import com.yahyahouse.taskflow.model.TaskFilter;
+import com.yahyahouse.taskflow.model.enums.TaskStatus;
+import com.yahyahouse.taskflow.model.event.TaskSnapshot;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+public interface TaskQueryRepository {
+
+    List<TaskSnapshot> findPageRows(TaskFilter filter, TaskCursor cursor, int limit, boolean includeDescription);
+
+    List<TaskSnapshot> findRowsByIds(Collection<Long> ids, boolean includeDescription);
+
+    Stream<TaskSnapshot> streamRows(TaskFilter filter);
+
+    List<TaskSnapshot> findOverduePageRows(LocalDate today, OverdueCursor cursor, int limit);
+
+    long countOverdue(LocalDate today);
+
+    Stream<TaskSnapshot> streamDueRows(Collection<TaskStatus> statuses);
+
+    long transitionStatusReturning(
+            TaskFilter filter,
+            TaskStatus targetStatus,
+            LocalDateTime updatedAt,
+            int chunkSize,
+            Consumer<Map<Long, TaskStatus>> chunkConsumer
+    );
+
+    Optional<TaskSnapshot> updateStatusByIdReturning(
+            Long id,
+            TaskStatus status,
+            LocalDateTime updatedAt,
+            Long expectedVersion
+    );
+
+    Optional<TaskSnapshot> deleteByIdReturning(Long id, Long expectedVersion);
+}
@@ -0,0 +1,366 @@
+package com.yahyahouse.taskflow.repository;
+
+import com.yahyahouse.taskflow.model.OverdueCursor;
+import com.yahyahouse.taskflow.model.TaskCursor;
+import com.yahyahouse.taskflow.model.TaskFilter;
+import com.yahyahouse.taskflow.model.entity.Task;
+import com.yahyahouse.taskflow.model.enums.TaskPriority;
+import com.yahyahouse.taskflow.model.enums.TaskStatus;
+import com.yahyahouse.taskflow.model.event.TaskSnapshot;
+import com.yahyahouse.taskflow.util.CommonUtil;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.NativeQuery;
+
+public class TaskQueryRepositoryImpl implements TaskQueryRepository {
+
+    private static final int STREAM_FETCH_SIZE = 500;
+    private static final List<TaskStatus> OPEN_STATUSES = Arrays.stream(TaskStatus.values())
+            .filter(TaskStatus::isOpen)
+            .toList();
+
+    private final EntityManager entityManager;
+
+    public TaskQueryRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<TaskSnapshot> findPageRows(
+            TaskFilter filter,
+            TaskCursor cursor,
+            int limit,
+            boolean includeDescription
+    ) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskSnapshot> query = cb.createQuery(TaskSnapshot.class);
+        Root<Task> task = query.from(Task.class);
+        List<Predicate> predicates = filterPredicates(cb, task, filter);
+        if (cursor != null) {
+            Path<LocalDateTime> createdAt = task.get("createdAt");
+            Path<Long> id = task.get("id");
+            predicates.add(cb.or(
+                    cb.lessThan(createdAt, cursor.createdAt()),
+                    cb.and(cb.equal(createdAt, cursor.createdAt()), cb.lessThan(id, cursor.id()))
+            ));
+        }
+        query.select(row(cb, task, includeDescription))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.desc(task.get("createdAt")), cb.desc(task.get("id")));
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<TaskSnapshot> findRowsByIds(Collection<Long> ids, boolean includeDescription) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskSnapshot> query = cb.createQuery(TaskSnapshot.class);
+        Root<Task> task = query.from(Task.class);
+        query.select(row(cb, task, includeDescription))
+                .where(task.get("id").in(ids));
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    @Override
+    public Stream<TaskSnapshot> streamRows(TaskFilter filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskSnapshot> query = cb.createQuery(TaskSnapshot.class);
+        Root<Task> task = query.from(Task.class);
+        query.select(row(cb, task, true))
+                .where(filterPredicates(cb, task, filter).toArray(Predicate[]::new))
+                .orderBy(cb.desc(task.get("createdAt")), cb.desc(task.get("id")));
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .getResultStream();
+    }
+
+    @Override
+    public List<TaskSnapshot> findOverduePageRows(LocalDate today, OverdueCursor cursor, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskSnapshot> query = cb.createQuery(TaskSnapshot.class);
+        Root<Task> task = query.from(Task.class);
+        List<Predicate> predicates = overduePredicates(cb, task, today);
+        if (cursor != null) {
+            Path<LocalDate> dueDate = task.get("dueDate");
+            Path<Long> id = task.get("id");
+            predicates.add(cb.or(
+                    cb.greaterThan(dueDate, cursor.dueDate()),
+                    cb.and(cb.equal(dueDate, cursor.dueDate()), cb.greaterThan(id, cursor.id()))
+            ));
+        }
+        query.select(row(cb, task, true))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.asc(task.get("dueDate")), cb.asc(task.get("id")));
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public long countOverdue(LocalDate today) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Task> task = query.from(Task.class);
+        query.select(cb.count(task))
+                .where(overduePredicates(cb, task, today).toArray(Predicate[]::new));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    @Override
+    public Stream<TaskSnapshot> streamDueRows(Collection<TaskStatus> statuses) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskSnapshot> query = cb.createQuery(TaskSnapshot.class);
+        Root<Task> task = query.from(Task.class);
+        query.select(row(cb, task, true))
+                .where(task.get("status").in(statuses), cb.isNotNull(task.get("dueDate")));
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public long transitionStatusReturning(
+            TaskFilter filter,
+            TaskStatus targetStatus,
+            LocalDateTime updatedAt,
+            int chunkSize,
+            Consumer<Map<Long, TaskStatus>> chunkConsumer
+    ) {
+        Query query = entityManager.createNativeQuery("""
+                SELECT id, status
+                FROM OLD TABLE (
+                    UPDATE tasks SET status = :targetStatus, updated_at = :updatedAt, version = version + 1
+                    WHERE status <> :targetStatus%s
+                )
+                """.formatted(nativeFilterConditions(filter)))
+                .setParameter("targetStatus", targetStatus.name())
+                .setParameter("updatedAt", updatedAt)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE);
+        bindNativeFilter(query, filter);
+
+        long transitioned = 0;
+        Map<Long, TaskStatus> chunk = new LinkedHashMap<>();
+        try (Stream<Object[]> rows = query.unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(Task.class)
+                .addScalar("id", Long.class)
+                .addScalar("status", String.class)
+                .getResultStream()) {
+            Iterator<Object[]> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                Object[] row = iterator.next();
+                chunk.put((Long) row[0], TaskStatus.valueOf((String) row[1]));
+                if (chunk.size() == chunkSize) {
+                    chunkConsumer.accept(Collections.unmodifiableMap(chunk));
+                    transitioned += chunk.size();
+                    chunk = new LinkedHashMap<>();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunkConsumer.accept(Collections.unmodifiableMap(chunk));
+            transitioned += chunk.size();
+        }
+        return transitioned;
+    }
+
+    @Override
+    public Optional<TaskSnapshot> updateStatusByIdReturning(
+            Long id,
+            TaskStatus status,
+            LocalDateTime updatedAt,
+            Long expectedVersion
+    ) {
+        Query query = entityManager.createNativeQuery("""
+                SELECT id, title, description, status, priority, due_date, created_at, updated_at, version
+                FROM OLD TABLE (
+                    UPDATE tasks SET status = :status, updated_at = :updatedAt, version = version + 1
+                    WHERE id = :id%s
+                )
+                """.formatted(versionCondition(expectedVersion)))
+                .setParameter("status", status.name())
+                .setParameter("updatedAt", updatedAt)
+                .setParameter("id", id);
+        return changedRow(withExpectedVersion(query, expectedVersion));
+    }
+
+    @Override
+    public Optional<TaskSnapshot> deleteByIdReturning(Long id, Long expectedVersion) {
+        Query query = entityManager.createNativeQuery("""
+                SELECT id, title, description, status, priority, due_date, created_at, updated_at, version
+                FROM OLD TABLE (DELETE FROM tasks WHERE id = :id%s)
+                """.formatted(versionCondition(expectedVersion)))
+                .setParameter("id", id);
+        return changedRow(withExpectedVersion(query, expectedVersion));
+    }
+
+    private String nativeFilterConditions(TaskFilter filter) {
+        StringBuilder conditions = new StringBuilder();
+        if (filter.status() != null) {
+            conditions.append(" AND status = :status");
+        }
+        if (filter.priority() != null) {
+            conditions.append(" AND priority = :priority");
+        }
+        if (filter.keyword() != null) {
+            List<String> tokens = filter.keywordTokens();
+            if (tokens.isEmpty()) {
+                conditions.append(" AND 1 = 0");
+            }
+            for (int i = 0; i < tokens.size(); i++) {
+                conditions.append(" AND (REGEXP_LIKE(LOWER(title), :keyword%1$d) OR REGEXP_LIKE(LOWER(description), :keyword%1$d))"
+                        .formatted(i));
+            }
+        }
+        if (filter.dueDateFrom() != null) {
+            conditions.append(" AND due_date >= :dueDateFrom");
+        }
+        if (filter.dueDateTo() != null) {
+            conditions.append(" AND due_date <= :dueDateTo");
+        }
+        return conditions.toString();
+    }
+
+    private void bindNativeFilter(Query query, TaskFilter filter) {
+        if (filter.status() != null) {
+            query.setParameter("status", filter.status().name());
+        }
+        if (filter.priority() != null) {
+            query.setParameter("priority", filter.priority().name());
+        }
+        if (filter.keyword() != null) {
+            List<String> tokens = filter.keywordTokens();
+            for (int i = 0; i < tokens.size(); i++) {
+                query.setParameter("keyword" + i, CommonUtil.keywordTermRegex(tokens.get(i)));
+            }
+        }
+        if (filter.dueDateFrom() != null) {
+            query.setParameter("dueDateFrom", filter.dueDateFrom());
+        }
+        if (filter.dueDateTo() != null) {
+            query.setParameter("dueDateTo", filter.dueDateTo());
+        }
+    }
+
+    private String versionCondition(Long expectedVersion) {
+        return expectedVersion == null ? "" : " AND version = :expectedVersion";
+    }
+
+    private Query withExpectedVersion(Query query, Long expectedVersion) {
+        return expectedVersion == null ? query : query.setParameter("expectedVersion", expectedVersion);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Optional<TaskSnapshot> changedRow(Query query) {
+        List<Object[]> rows = query.unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(Task.class)
+                .addScalar("id", Long.class)
+                .addScalar("title", String.class)
+                .addScalar("description", String.class)
+                .addScalar("status", String.class)
+                .addScalar("priority", String.class)
+                .addScalar("due_date", LocalDate.class)
+                .addScalar("created_at", LocalDateTime.class)
+                .addScalar("updated_at", LocalDateTime.class)
+                .addScalar("version", Long.class)
+                .getResultList();
+        return rows.stream().findFirst().map(row -> new TaskSnapshot(
+                (Long) row[0],
+                (String) row[1],
+                (String) row[2],
+                TaskStatus.valueOf((String) row[3]),
+                TaskPriority.valueOf((String) row[4]),
+                (LocalDate) row[5],
+                (LocalDateTime) row[6],
+                (LocalDateTime) row[7],
+                (Long) row[8]
+        ));
+    }
+
+    private CompoundSelection<TaskSnapshot> row(CriteriaBuilder cb, Root<Task> task, boolean includeDescription) {
+        return cb.construct(
+                TaskSnapshot.class,
+                task.get("id"),
+                task.get("title"),
+                includeDescription ? task.get("description") : cb.nullLiteral(String.class),
+                task.get("status"),
+                task.get("priority"),
+                task.get("dueDate"),
+                task.get("createdAt"),
+                task.get("updatedAt"),
+                task.get("version")
+        );
+    }
+
+    private List<Predicate> overduePredicates(CriteriaBuilder cb, Root<Task> task, LocalDate today) {
+        List<Predicate> predicates = new ArrayList<>(3);
+        predicates.add(task.get("status").in(OPEN_STATUSES));
+        predicates.add(cb.lessThan(task.<LocalDate>get("dueDate"), today));
+        return predicates;
+    }
+
+    private List<Predicate> filterPredicates(CriteriaBuilder cb, Root<Task> task, TaskFilter filter) {
+        List<Predicate> predicates = new ArrayList<>(6);
+        if (filter.status() != null) {
+            predicates.add(cb.equal(task.get("status"), filter.status()));
+        }
+        if (filter.priority() != null) {
+            predicates.add(cb.equal(task.get("priority"), filter.priority()));
+        }
+        if (filter.keyword() != null) {
+            predicates.add(keywordPredicate(cb, task, filter.keywordTokens()));
+        }
+        Path<LocalDate> dueDate = task.get("dueDate");
+        if (filter.dueDateFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(dueDate, filter.dueDateFrom()));
+        }
+        if (filter.dueDateTo() != null) {
+            predicates.add(cb.lessThanOrEqualTo(dueDate, filter.dueDateTo()));
+        }
+        return predicates;
+    }
+
+    private Predicate keywordPredicate(CriteriaBuilder cb, Root<Task> task, List<String> tokens) {
+        if (tokens.isEmpty()) {
+            return cb.disjunction();
+        }
+        Expression<String> title = cb.lower(task.get("title"));
+        Expression<String> description = cb.lower(task.get("description"));
+        List<Predicate> terms = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            Expression<String> pattern = cb.literal(CommonUtil.keywordTermRegex(token));
+            terms.add(cb.or(regexpLike(cb, title, pattern), regexpLike(cb, description, pattern)));
+        }
+        return cb.and(terms.toArray(Predicate[]::new));
+    }
+
+    private Predicate regexpLike(CriteriaBuilder cb, Expression<String> value, Expression<String> pattern) {
+        return cb.isTrue(cb.function("REGEXP_LIKE", Boolean.class, value, pattern));
+    }
+}
@@ -1,33 +1,27 @@
 package com.yahyahouse.taskflow.repository;
 
 import com.yahyahouse.taskflow.model.entity.Task;
-import com.yahyahouse.taskflow.model.enums.TaskPriority;
-import com.yahyahouse.taskflow.model.enums.TaskStatus;
 
-import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
+import org.springframework.data.jpa.repository.QueryHints;
 
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskQueryRepository {
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
     @Query("""
-            SELECT t FROM Task t
-            WHERE (:status IS NULL OR t.status = :status)
-              AND (:priority IS NULL OR t.priority = :priority)
-              AND (:keyword IS NULL OR LOWER(t.title) LIKE LOWER(CONCAT('%', :keyword, '%')))
-              AND (:dueDateFrom IS NULL OR t.dueDate >= :dueDateFrom)
-              AND (:dueDateTo IS NULL OR t.dueDate <= :dueDateTo)
-            ORDER BY t.createdAt DESC
+            SELECT t.id AS id, t.title AS title, t.description AS description, t.status AS status,
+                   t.priority AS priority, t.dueDate AS dueDate, t.createdAt AS createdAt
+            FROM Task t
             """)
-    List<Task> findByFilters(
-            @Param("status") TaskStatus status,
-            @Param("priority") TaskPriority priority,
-            @Param("keyword") String keyword,
-            @Param("dueDateFrom") LocalDate dueDateFrom,
-            @Param("dueDateTo") LocalDate dueDateTo
-    );
+    Stream<TaskIndexProjection> streamForSearchIndex();
 
     @Query(value = """
             SELECT t.status AS status, COUNT(*) AS total
@@ -37,12 +31,9 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     List<StatusCountProjection> countByStatusNative();
 
     @Query(value = """
-            SELECT *
+            SELECT t.priority AS priority, COUNT(*) AS total
             FROM tasks t
-            WHERE t.due_date < :today
-              AND t.status <> 'DONE'
-            ORDER BY t.due_date ASC
+            GROUP BY t.priority
             """, nativeQuery = true)
-    List<Task> findOverdueTasks(@Param("today") LocalDate today);
+    List<PriorityCountProjection> countByPriorityNative();
 }
-
@@ -0,0 +1,168 @@
+package com.yahyahouse.taskflow.service;
+
+import com.yahyahouse.taskflow.model.OverdueCursor;
+import com.yahyahouse.taskflow.model.enums.TaskStatus;
+import com.yahyahouse.taskflow.model.event.TaskChangedEvent;
+import com.yahyahouse.taskflow.model.event.TaskSnapshot;
+import com.yahyahouse.taskflow.model.event.TasksTransitionedEvent;
+import com.yahyahouse.taskflow.repository.TaskRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class OverdueTaskIndex {
+
+    private static final List<TaskStatus> OPEN_STATUSES = Arrays.stream(TaskStatus.values())
+            .filter(TaskStatus::isOpen)
+            .toList();
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ConcurrentSkipListMap<OverdueCursor, TaskSnapshot> byDueDate = new ConcurrentSkipListMap<>();
+    private final ConcurrentSkipListMap<LocalDate, Long> countsByDueDate = new ConcurrentSkipListMap<>();
+    private final Map<Long, TaskSnapshot> tasks = new ConcurrentHashMap<>();
+    private final RebuildBuffer rebuildBuffer = new RebuildBuffer();
+    private volatile boolean ready;
+
+    public OverdueTaskIndex(
+            TaskRepository taskRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.taskRepository = taskRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+        Gauge.builder("taskflow.report.overdue.index.size", tasks, Map::size)
+                .register(meterRegistry);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public long countOverdue(LocalDate today) {
+        long total = 0;
+        for (long count : countsByDueDate.headMap(today, false).values()) {
+            total += count;
+        }
+        return total;
+    }
+
+    public List<TaskSnapshot> findOverduePage(LocalDate today, OverdueCursor cursor, int limit) {
+        OverdueCursor upperBound = new OverdueCursor(today, Long.MIN_VALUE);
+        if (cursor != null && cursor.compareTo(upperBound) >= 0) {
+            return List.of();
+        }
+        NavigableMap<OverdueCursor, TaskSnapshot> overdue = cursor == null
+                ? byDueDate.headMap(upperBound, false)
+                : byDueDate.subMap(cursor, false, upperBound, false);
+        List<TaskSnapshot> page = new ArrayList<>(Math.min(limit, 64));
+        for (TaskSnapshot task : overdue.values()) {
+            if (page.size() == limit) {
+                break;
+            }
+            page.add(task);
+        }
+        return page;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rebuildBuffer.rebuild(() -> transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<TaskSnapshot> rows = taskRepository.streamDueRows(OPEN_STATUSES)) {
+                rows.forEach(this::upsert);
+            }
+        }));
+        ready = true;
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        rebuildBuffer.apply(() -> {
+            TaskSnapshot after = event.after();
+            if (after == null) {
+                remove(event.before().id());
+                return;
+            }
+            upsert(after);
+        });
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksTransitioned(TasksTransitionedEvent event) {
+        rebuildBuffer.apply(() -> {
+            if (!event.targetStatus().isOpen()) {
+                event.taskIds().forEach(this::remove);
+                return;
+            }
+            retarget(event.taskIds(), event.targetStatus(), event.updatedAt());
+            List<Long> reopened = event.reopenedTaskIds();
+            if (!reopened.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status ->
+                        taskRepository.findRowsByIds(reopened, true).forEach(this::upsert));
+            }
+        });
+    }
+
+    private synchronized void upsert(TaskSnapshot task) {
+        TaskSnapshot current = tasks.get(task.id());
+        if (current != null && current.version() != null && task.version() != null
+                && current.version() > task.version()) {
+            return;
+        }
+        if (current != null) {
+            unlink(current);
+        }
+        if (task.status().isOpen() && task.dueDate() != null) {
+            tasks.put(task.id(), task);
+            byDueDate.put(OverdueCursor.of(task), task);
+            countsByDueDate.merge(task.dueDate(), 1L, Long::sum);
+        } else {
+            tasks.remove(task.id());
+        }
+    }
+
+    private synchronized void retarget(Collection<Long> ids, TaskStatus targetStatus, LocalDateTime updatedAt) {
+        for (Long id : ids) {
+            TaskSnapshot current = tasks.get(id);
+            if (current != null) {
+                upsert(current.withStatus(targetStatus, updatedAt));
+            }
+        }
+    }
+
+    private synchronized void remove(Long id) {
+        TaskSnapshot current = tasks.remove(id);
+        if (current != null) {
+            unlink(current);
+        }
+    }
+
+    private void unlink(TaskSnapshot task) {
+        byDueDate.remove(OverdueCursor.of(task));
+        countsByDueDate.computeIfPresent(task.dueDate(), (dueDate, count) -> count == 1 ? null : count - 1);
+    }
+}
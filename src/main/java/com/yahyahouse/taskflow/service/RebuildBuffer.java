@@ -0,0 +1,66 @@
+package com.yahyahouse.taskflow.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+final class RebuildBuffer {
+
+    private static final Logger log = LoggerFactory.getLogger(RebuildBuffer.class);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private List<Runnable> pending;
+
+    void rebuild(Runnable load) {
+        lock.lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            load.run();
+        } finally {
+            replay();
+        }
+    }
+
+    void apply(Runnable update) {
+        lock.lock();
+        try {
+            if (pending != null) {
+                pending.add(update);
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        update.run();
+    }
+
+    private void replay() {
+        while (true) {
+            List<Runnable> batch;
+            lock.lock();
+            try {
+                if (pending.isEmpty()) {
+                    pending = null;
+                    return;
+                }
+                batch = pending;
+                pending = new ArrayList<>();
+            } finally {
+                lock.unlock();
+            }
+            for (Runnable update : batch) {
+                try {
+                    update.run();
+                } catch (RuntimeException ex) {
+                    log.warn("Failed to replay update buffered during rebuild", ex);
+                }
+            }
+        }
+    }
+}
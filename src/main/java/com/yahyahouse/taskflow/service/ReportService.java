@@ -1,8 +1,8 @@
 package com.yahyahouse.taskflow.service;
 
+import com.yahyahouse.taskflow.model.response.OverdueTaskPageResponse;
 import com.yahyahouse.taskflow.model.response.ReportSummaryResponse;
 import com.yahyahouse.taskflow.model.response.StatusCountResponse;
-import com.yahyahouse.taskflow.model.response.TaskResponse;
 import java.util.List;
 
 public interface ReportService {
@@ -11,5 +11,5 @@ public interface ReportService {
 
     List<StatusCountResponse> getStatusCount(String transactionId);
 
-    List<TaskResponse> getOverdueTasks(String transactionId);
+    OverdueTaskPageResponse getOverdueTasks(String transactionId, String cursor, Integer limit);
 }
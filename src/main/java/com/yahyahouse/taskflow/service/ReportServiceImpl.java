@@ -1,23 +1,20 @@
 package com.yahyahouse.taskflow.service;
 
 import com.yahya.commonlogger.Loggable;
+import com.yahyahouse.taskflow.model.OverdueCursor;
+import com.yahyahouse.taskflow.model.response.OverdueTaskPageResponse;
 import com.yahyahouse.taskflow.model.response.ReportSummaryResponse;
 import com.yahyahouse.taskflow.model.response.StatusCountResponse;
-import com.yahyahouse.taskflow.model.response.TaskResponse;
 import com.yahyahouse.taskflow.model.TaskMapper;
-import com.yahyahouse.taskflow.model.entity.Task;
 import com.yahyahouse.taskflow.model.enums.TaskStatus;
-import com.yahyahouse.taskflow.repository.StatusCountProjection;
+import com.yahyahouse.taskflow.model.event.TaskSnapshot;
 import com.yahyahouse.taskflow.repository.TaskRepository;
 import com.yahyahouse.taskflow.util.TaskFlowException;
 import com.yahyahouse.taskflow.util.ValidationUtil;
-import com.yahyahouse.taskflow.util.transaction.TransactionContext;
 
 import java.time.LocalDate;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import org.springframework.dao.DataAccessException;
 import org.springframework.http.HttpStatus;
@@ -29,30 +26,33 @@ public class ReportServiceImpl implements ReportService {
 
     private final TaskRepository taskRepository;
     private final TaskMapper taskMapper;
-
-    public ReportServiceImpl(TaskRepository taskRepository, TaskMapper taskMapper) {
+    private final TaskReportCounters taskReportCounters;
+    private final OverdueTaskIndex overdueTaskIndex;
+
+    public ReportServiceImpl(
+            TaskRepository taskRepository,
+            TaskMapper taskMapper,
+            TaskReportCounters taskReportCounters,
+            OverdueTaskIndex overdueTaskIndex
+    ) {
         this.taskRepository = taskRepository;
         this.taskMapper = taskMapper;
+        this.taskReportCounters = taskReportCounters;
+        this.overdueTaskIndex = overdueTaskIndex;
     }
 
     @Override
     public ReportSummaryResponse getSummary(String transactionId) {
         try {
             ValidationUtil.validateTransactionId(transactionId);
-            applyTransactionId(transactionId);
-            List<Task> tasks = taskRepository.findAll();
-            long total = tasks.size();
-
-            Map<TaskStatus, Long> counts = tasks.stream()
-                    .collect(Collectors.groupingBy(Task::getStatus, Collectors.counting()));
+            Map<TaskStatus, Long> counts = taskReportCounters.statusCounts();
 
             long todo = counts.getOrDefault(TaskStatus.TODO, 0L);
             long inProgress = counts.getOrDefault(TaskStatus.IN_PROGRESS, 0L);
             long done = counts.getOrDefault(TaskStatus.DONE, 0L);
+            long total = counts.values().stream().mapToLong(Long::longValue).sum();
 
-            double completionRate = total == 0
-                    ? 0.0
-                    : tasks.stream().filter(task -> task.getStatus() == TaskStatus.DONE).count() / (double) total;
+            double completionRate = total == 0 ? 0.0 : done / (double) total;
 
             ReportSummaryResponse response = new ReportSummaryResponse();
             response.setTotal(total);
@@ -75,10 +75,10 @@ public class ReportServiceImpl implements ReportService {
     public List<StatusCountResponse> getStatusCount(String transactionId) {
         try {
             ValidationUtil.validateTransactionId(transactionId);
-            applyTransactionId(transactionId);
-            return taskRepository.countByStatusNative().stream()
-                    .sorted(Comparator.comparing(item -> TaskStatus.valueOf(item.getStatus()).ordinal()))
-                    .map(item -> toStatusCountResponse(item, transactionId))
+            return taskReportCounters.statusCounts().entrySet().stream()
+                    .filter(entry -> entry.getValue() > 0)
+                    .sorted(Map.Entry.comparingByKey())
+                    .map(entry -> new StatusCountResponse(transactionId, entry.getKey(), entry.getValue()))
                     .toList();
         } catch (TaskFlowException ex) {
             throw ex;
@@ -90,13 +90,30 @@ public class ReportServiceImpl implements ReportService {
     }
 
     @Override
-    public List<TaskResponse> getOverdueTasks(String transactionId) {
+    public OverdueTaskPageResponse getOverdueTasks(String transactionId, String cursor, Integer limit) {
         try {
             ValidationUtil.validateTransactionId(transactionId);
-            applyTransactionId(transactionId);
-            return taskRepository.findOverdueTasks(LocalDate.now()).stream()
+            int pageLimit = ValidationUtil.resolvePageLimit(limit);
+            OverdueCursor overdueCursor = OverdueCursor.decode(cursor);
+            LocalDate today = LocalDate.now();
+            boolean indexed = overdueTaskIndex.isReady();
+            List<TaskSnapshot> tasks = indexed
+                    ? overdueTaskIndex.findOverduePage(today, overdueCursor, pageLimit + 1)
+                    : taskRepository.findOverduePageRows(today, overdueCursor, pageLimit + 1);
+            long total = indexed ? overdueTaskIndex.countOverdue(today) : taskRepository.countOverdue(today);
+
+            boolean hasNext = tasks.size() > pageLimit;
+            List<TaskSnapshot> pageTasks = hasNext ? tasks.subList(0, pageLimit) : tasks;
+
+            OverdueTaskPageResponse response = new OverdueTaskPageResponse();
+            response.setTotal(total);
+            response.setItems(pageTasks.stream()
                     .map(task -> taskMapper.toResponse(task, transactionId))
-                    .toList();
+                    .toList());
+            response.setLimit(pageLimit);
+            response.setNextCursor(hasNext ? OverdueCursor.of(pageTasks.get(pageTasks.size() - 1)).encode() : null);
+            response.setTransactionId(transactionId);
+            return response;
         } catch (TaskFlowException ex) {
             throw ex;
         } catch (DataAccessException ex) {
@@ -105,18 +122,4 @@ public class ReportServiceImpl implements ReportService {
             throw new TaskFlowException("Internal server error", ex, HttpStatus.INTERNAL_SERVER_ERROR.value());
         }
     }
-
-    private StatusCountResponse toStatusCountResponse(StatusCountProjection projection, String transactionId) {
-        return new StatusCountResponse(
-                transactionId,
-                TaskStatus.valueOf(projection.getStatus()),
-                projection.getTotal() == null ? 0 : projection.getTotal()
-
-
-        );
-    }
-
-    private void applyTransactionId(String transactionId) {
-        TransactionContext.set(transactionId);
-    }
 }
@@ -0,0 +1,109 @@
+package com.yahyahouse.taskflow.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.yahyahouse.taskflow.model.event.TaskChangedEvent;
+import com.yahyahouse.taskflow.model.event.TaskSnapshot;
+import com.yahyahouse.taskflow.model.event.TasksTransitionedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class TaskCache {
+
+    private static final String CACHE_NAME = "tasks";
+    private static final String REQUEST_METRIC = "taskflow.cache.task.requests";
+
+    private final boolean enabled;
+    private final Cache<Long, TaskSnapshot> cache;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, RequestCounters> requestCounters = new ConcurrentHashMap<>();
+
+    public TaskCache(
+            @Value("${taskflow.cache.task.enabled:true}") boolean enabled,
+            @Value("${taskflow.cache.task.maximum-size:10000}") long maximumSize,
+            @Value("${taskflow.cache.task.ttl:PT10M}") Duration ttl,
+            MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.meterRegistry = meterRegistry;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        if (enabled) {
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        }
+    }
+
+    public Optional<TaskSnapshot> get(Long id, String endpoint, Function<Long, Optional<TaskSnapshot>> loader) {
+        if (!enabled) {
+            return loader.apply(id);
+        }
+        boolean[] loaded = new boolean[1];
+        TaskSnapshot snapshot = cache.get(id, key -> {
+            loaded[0] = true;
+            return loader.apply(key).orElse(null);
+        });
+        RequestCounters counters = requestCounters.computeIfAbsent(endpoint, this::requestCounters);
+        (loaded[0] ? counters.miss() : counters.hit()).increment();
+        return Optional.ofNullable(snapshot);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (event.after() != null) {
+            cache.asMap().merge(event.after().id(), event.after(), TaskCache::newer);
+        } else {
+            cache.invalidate(event.before().id());
+        }
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksTransitioned(TasksTransitionedEvent event) {
+        invalidateAll();
+    }
+
+    private RequestCounters requestCounters(String endpoint) {
+        return new RequestCounters(requestCounter(endpoint, "hit"), requestCounter(endpoint, "miss"));
+    }
+
+    private Counter requestCounter(String endpoint, String result) {
+        return Counter.builder(REQUEST_METRIC)
+                .tag("cache", CACHE_NAME)
+                .tag("endpoint", endpoint)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static TaskSnapshot newer(TaskSnapshot cached, TaskSnapshot candidate) {
+        if (cached.version() != null && candidate.version() != null && cached.version() > candidate.version()) {
+            return cached;
+        }
+        return candidate;
+    }
+
+    private record RequestCounters(Counter hit, Counter miss) {
+    }
+}
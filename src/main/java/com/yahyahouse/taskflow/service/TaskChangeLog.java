@@ -0,0 +1,121 @@
+package com.yahyahouse.taskflow.service;
+
+import com.yahyahouse.taskflow.model.entity.TaskChange;
+import com.yahyahouse.taskflow.model.enums.TaskChangeType;
+import com.yahyahouse.taskflow.model.event.TaskChangedEvent;
+import com.yahyahouse.taskflow.model.event.TasksTransitionedEvent;
+import com.yahyahouse.taskflow.repository.TaskChangeRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class TaskChangeLog {
+
+    private final TaskChangeRepository taskChangeRepository;
+    private final Duration retention;
+    private final AtomicLong purgedThrough = new AtomicLong();
+
+    public TaskChangeLog(
+            TaskChangeRepository taskChangeRepository,
+            @Value("${taskflow.changes.retention:P30D}") Duration retention
+    ) {
+        this.taskChangeRepository = taskChangeRepository;
+        this.retention = retention;
+    }
+
+    public long purgedThrough() {
+        return purgedThrough.get();
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void seedSequence() {
+        taskChangeRepository.seedSequence();
+    }
+
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        record(List.of(change(event.taskId(), event.type())));
+    }
+
+    @EventListener
+    public void onTasksTransitioned(TasksTransitionedEvent event) {
+        List<TaskChange> changes = new ArrayList<>(event.taskIds().size());
+        event.taskIds().forEach(taskId -> changes.add(change(taskId, TaskChangeType.STATUS_CHANGED)));
+        record(changes);
+    }
+
+    @Transactional
+    @Scheduled(
+            initialDelayString = "${taskflow.changes.purge-interval:PT1H}",
+            fixedDelayString = "${taskflow.changes.purge-interval:PT1H}"
+    )
+    public void purge() {
+        Long seq = taskChangeRepository.findMaxSeqBefore(LocalDateTime.now().minus(retention));
+        if (seq != null) {
+            taskChangeRepository.deleteThrough(seq);
+            purgedThrough.accumulateAndGet(seq, Math::max);
+        }
+    }
+
+    private void record(List<TaskChange> changes) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            append(changes);
+            return;
+        }
+        pendingChanges().addAll(changes);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<TaskChange> pendingChanges() {
+        List<TaskChange> pending = (List<TaskChange>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+        List<TaskChange> changes = new ArrayList<>();
+        TransactionSynchronizationManager.bindResource(this, changes);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public int getOrder() {
+                return Ordered.HIGHEST_PRECEDENCE;
+            }
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                taskChangeRepository.flush();
+                append(changes);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(TaskChangeLog.this);
+            }
+        });
+        return changes;
+    }
+
+    private void append(List<TaskChange> changes) {
+        LocalDateTime changedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        changes.forEach(change -> change.setChangedAt(changedAt));
+        taskChangeRepository.appendAll(changes);
+    }
+
+    private static TaskChange change(Long taskId, TaskChangeType type) {
+        TaskChange change = new TaskChange();
+        change.setTaskId(taskId);
+        change.setType(type);
+        return change;
+    }
+}
@@ -0,0 +1,245 @@
+package com.yahyahouse.taskflow.service;
+
+import com.yahyahouse.taskflow.model.enums.TaskDueType;
+import com.yahyahouse.taskflow.model.enums.TaskStatus;
+import com.yahyahouse.taskflow.model.event.TaskChangedEvent;
+import com.yahyahouse.taskflow.model.event.TaskDueEvent;
+import com.yahyahouse.taskflow.model.event.TaskSnapshot;
+import com.yahyahouse.taskflow.model.event.TasksTransitionedEvent;
+import com.yahyahouse.taskflow.repository.TaskRepository;
+import com.yahyahouse.taskflow.util.timer.HierarchicalTimingWheel;
+import com.yahyahouse.taskflow.util.timer.HierarchicalTimingWheel.Timeout;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class TaskDueScheduler {
+
+    private static final List<TaskStatus> OPEN_STATUSES = Arrays.stream(TaskStatus.values())
+            .filter(TaskStatus::isOpen)
+            .toList();
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration dueSoonLead;
+    private final ZoneId zone = ZoneId.systemDefault();
+    private final HierarchicalTimingWheel<DueTimer> wheel;
+    private final Map<Long, TrackedTask> tracked = new HashMap<>();
+    private final Map<TaskDueType, Counter> firedCounters = new EnumMap<>(TaskDueType.class);
+    private final ReentrantLock lock = new ReentrantLock();
+    private final RebuildBuffer rebuildBuffer = new RebuildBuffer();
+
+    public TaskDueScheduler(
+            TaskRepository taskRepository,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${taskflow.due.tick:PT1M}") Duration tick,
+            @Value("${taskflow.due.due-soon-lead:PT24H}") Duration dueSoonLead
+    ) {
+        this.taskRepository = taskRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+        this.eventPublisher = eventPublisher;
+        this.dueSoonLead = dueSoonLead;
+        this.wheel = new HierarchicalTimingWheel<>(tick, System.currentTimeMillis());
+        for (TaskDueType type : TaskDueType.values()) {
+            firedCounters.put(type, Counter.builder("taskflow.due.events")
+                    .tag("type", type.name())
+                    .register(meterRegistry));
+        }
+        Gauge.builder("taskflow.due.timers", this, TaskDueScheduler::pendingTimers)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        rebuildBuffer.rebuild(() -> transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<TaskSnapshot> rows = taskRepository.streamDueRows(OPEN_STATUSES)) {
+                rows.forEach(task -> track(task, false));
+            }
+        }));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        rebuildBuffer.apply(() -> {
+            TaskSnapshot before = event.before();
+            TaskSnapshot after = event.after();
+            if (after == null) {
+                untrack(before.id());
+                return;
+            }
+            track(after, reopenedOrRescheduled(before, after));
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksTransitioned(TasksTransitionedEvent event) {
+        rebuildBuffer.apply(() -> {
+            if (!event.targetStatus().isOpen()) {
+                event.taskIds().forEach(this::untrack);
+                return;
+            }
+            retarget(event.taskIds(), event.targetStatus(), event.updatedAt());
+            List<Long> reopened = event.reopenedTaskIds();
+            if (!reopened.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status ->
+                        taskRepository.findRowsByIds(reopened, true).forEach(task -> track(task, true)));
+            }
+        });
+    }
+
+    @Scheduled(fixedRateString = "${taskflow.due.tick:PT1M}")
+    public void tick() {
+        List<TaskDueEvent> events = new ArrayList<>();
+        lock.lock();
+        try {
+            for (DueTimer timer : wheel.advance(System.currentTimeMillis())) {
+                TrackedTask trackedTask = timer.type() == TaskDueType.OVERDUE
+                        ? tracked.remove(timer.taskId())
+                        : tracked.get(timer.taskId());
+                if (trackedTask != null) {
+                    events.add(new TaskDueEvent(timer.type(), trackedTask.task()));
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        for (TaskDueEvent event : events) {
+            firedCounters.get(event.type()).increment();
+            eventPublisher.publishEvent(event);
+        }
+    }
+
+    private void track(TaskSnapshot task, boolean fireIfPast) {
+        lock.lock();
+        try {
+            TrackedTask current = tracked.get(task.id());
+            if (current != null && isStale(task, current.task())) {
+                return;
+            }
+            boolean schedulable = task.status().isOpen() && task.dueDate() != null;
+            if (current != null && schedulable && task.dueDate().equals(current.task().dueDate())) {
+                tracked.put(task.id(), current.withTask(task));
+                return;
+            }
+            if (current != null) {
+                cancel(current);
+                tracked.remove(task.id());
+            }
+            if (schedulable) {
+                schedule(task, fireIfPast);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void retarget(Collection<Long> ids, TaskStatus targetStatus, LocalDateTime updatedAt) {
+        lock.lock();
+        try {
+            for (Long id : ids) {
+                TrackedTask current = tracked.get(id);
+                if (current != null) {
+                    tracked.put(id, current.withTask(current.task().withStatus(targetStatus, updatedAt)));
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void untrack(Long id) {
+        lock.lock();
+        try {
+            TrackedTask current = tracked.remove(id);
+            if (current != null) {
+                cancel(current);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void schedule(TaskSnapshot task, boolean fireIfPast) {
+        long now = System.currentTimeMillis();
+        long overdueAt = overdueAt(task.dueDate());
+        long dueSoonAt = overdueAt - dueSoonLead.toMillis();
+        if (now >= overdueAt && !fireIfPast) {
+            return;
+        }
+        Timeout<DueTimer> dueSoon = now < overdueAt && (fireIfPast || now < dueSoonAt)
+                ? wheel.schedule(dueSoonAt, new DueTimer(task.id(), TaskDueType.DUE_SOON))
+                : null;
+        Timeout<DueTimer> overdue = wheel.schedule(overdueAt, new DueTimer(task.id(), TaskDueType.OVERDUE));
+        tracked.put(task.id(), new TrackedTask(task, dueSoon, overdue));
+    }
+
+    private void cancel(TrackedTask trackedTask) {
+        if (trackedTask.dueSoon() != null) {
+            wheel.cancel(trackedTask.dueSoon());
+        }
+        wheel.cancel(trackedTask.overdue());
+    }
+
+    private long overdueAt(LocalDate dueDate) {
+        return dueDate.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+    }
+
+    private int pendingTimers() {
+        lock.lock();
+        try {
+            return wheel.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static boolean reopenedOrRescheduled(TaskSnapshot before, TaskSnapshot after) {
+        return before == null
+                || !before.status().isOpen()
+                || !Objects.equals(before.dueDate(), after.dueDate());
+    }
+
+    private static boolean isStale(TaskSnapshot candidate, TaskSnapshot current) {
+        return candidate.version() != null && current.version() != null && candidate.version() < current.version();
+    }
+
+    private record DueTimer(Long taskId, TaskDueType type) {
+    }
+
+    private record TrackedTask(TaskSnapshot task, Timeout<DueTimer> dueSoon, Timeout<DueTimer> overdue) {
+
+        TrackedTask withTask(TaskSnapshot newTask) {
+            return new TrackedTask(newTask, dueSoon, overdue);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.yahyahouse.taskflow.service;
+
+import com.yahyahouse.taskflow.model.TaskMapper;
+import com.yahyahouse.taskflow.model.enums.TaskChangeType;
+import com.yahyahouse.taskflow.model.enums.TaskPriority;
+import com.yahyahouse.taskflow.model.enums.TaskStatus;
+import com.yahyahouse.taskflow.model.event.TaskChangedEvent;
+import com.yahyahouse.taskflow.model.event.TaskDueEvent;
+import com.yahyahouse.taskflow.model.event.TaskSnapshot;
+import com.yahyahouse.taskflow.model.event.TasksTransitionedEvent;
+import com.yahyahouse.taskflow.model.response.TaskStreamEvent;
+import com.yahyahouse.taskflow.util.TaskFlowException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Component
+public class TaskEventStream {
+
+    private static final String EVENTS_METRIC = "taskflow.stream.events";
+
+    private final TaskMapper taskMapper;
+    private final int queueCapacity;
+    private final int maxSubscribers;
+    private final Set<TaskStreamSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("taskflow-stream-", 0).factory());
+    private final TaskStreamSubscriber.Counters counters;
+
+    public TaskEventStream(
+            TaskMapper taskMapper,
+            MeterRegistry meterRegistry,
+            @Value("${taskflow.stream.queue-capacity:256}") int queueCapacity,
+            @Value("${taskflow.stream.max-subscribers:10000}") int maxSubscribers
+    ) {
+        this.taskMapper = taskMapper;
+        this.queueCapacity = queueCapacity;
+        this.maxSubscribers = maxSubscribers;
+        this.counters = new TaskStreamSubscriber.Counters(
+                eventCounter(meterRegistry, "sent"),
+                eventCounter(meterRegistry, "coalesced"),
+                eventCounter(meterRegistry, "overflow"));
+        Gauge.builder("taskflow.stream.subscribers", subscribers, Set::size)
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(TaskStatus status, TaskPriority priority) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new TaskFlowException(
+                    "Too many stream subscribers", null, HttpStatus.SERVICE_UNAVAILABLE.value());
+        }
+        SseEmitter emitter = new SseEmitter();
+        TaskStreamSubscriber subscriber = new TaskStreamSubscriber(
+                emitter, status, priority, queueCapacity, executor, counters);
+        Runnable unsubscribe = () -> {
+            subscriber.close();
+            subscribers.remove(subscriber);
+        };
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(ex -> unsubscribe.run());
+        subscribers.add(subscriber);
+        subscriber.heartbeat();
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        TaskSnapshot before = event.before();
+        TaskSnapshot after = event.after();
+        TaskStreamEvent payload = new TaskStreamEvent(
+                event.type().name(),
+                event.taskId(),
+                event.type() == TaskChangeType.DELETED ? null : taskMapper.toResponse(after, null));
+        for (TaskStreamSubscriber subscriber : subscribers) {
+            if (subscriber.matches(before) || subscriber.matches(after)) {
+                subscriber.offer(TaskStreamSubscriber.TASK_EVENT, event.taskId(), payload);
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksTransitioned(TasksTransitionedEvent event) {
+        Map<String, Object> payload = Map.of("reason", "transition", "targetStatus", event.targetStatus());
+        subscribers.forEach(subscriber -> subscriber.resync(payload));
+    }
+
+    @EventListener
+    public void onTaskDue(TaskDueEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        TaskSnapshot task = event.task();
+        TaskStreamEvent payload = new TaskStreamEvent(
+                event.type().name(), task.id(), taskMapper.toResponse(task, null));
+        for (TaskStreamSubscriber subscriber : subscribers) {
+            if (subscriber.matches(task)) {
+                subscriber.offer(TaskStreamSubscriber.DUE_EVENT, task.id(), payload);
+            }
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${taskflow.stream.heartbeat-interval:PT15S}",
+            fixedDelayString = "${taskflow.stream.heartbeat-interval:PT15S}"
+    )
+    public void heartbeat() {
+        subscribers.forEach(TaskStreamSubscriber::heartbeat);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> {
+            subscriber.close();
+            subscriber.emitter().complete();
+        });
+        subscribers.clear();
+        executor.shutdown();
+    }
+
+    private static Counter eventCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(EVENTS_METRIC)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
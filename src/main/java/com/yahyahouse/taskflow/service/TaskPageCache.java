@@ -0,0 +1,192 @@
+package com.yahyahouse.taskflow.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.yahyahouse.taskflow.model.TaskFilter;
+import com.yahyahouse.taskflow.model.enums.TaskPriority;
+import com.yahyahouse.taskflow.model.enums.TaskStatus;
+import com.yahyahouse.taskflow.model.enums.TaskView;
+import com.yahyahouse.taskflow.model.event.TaskChangedEvent;
+import com.yahyahouse.taskflow.model.event.TasksTransitionedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import tools.jackson.databind.ObjectMapper;
+
+@Component
+public class TaskPageCache {
+
+    private static final String CACHE_NAME = "task-pages";
+    private static final int ENTRY_OVERHEAD_BYTES = 128;
+
+    private final boolean enabled;
+    private final ObjectMapper objectMapper;
+    private final AsyncCache<Key, RenderedPage> cache;
+    private final AtomicLong writeVersion = new AtomicLong();
+    private final String transactionIdPlaceholder = "taskflow-page-cache-" + UUID.randomUUID();
+    private final byte[] placeholderJson;
+
+    public TaskPageCache(
+            @Value("${taskflow.cache.task-pages.enabled:true}") boolean enabled,
+            @Value("${taskflow.cache.task-pages.maximum-bytes:67108864}") long maximumBytes,
+            @Value("${taskflow.cache.task-pages.ttl:PT1M}") Duration ttl,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.objectMapper = objectMapper;
+        this.placeholderJson = objectMapper.writeValueAsBytes(transactionIdPlaceholder);
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher((Key key, RenderedPage page) -> page.weight())
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        if (enabled) {
+            CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), CACHE_NAME);
+            Gauge.builder("taskflow.cache.task-pages.hit.ratio", cache.synchronous(), c -> c.stats().hitRate())
+                    .register(meterRegistry);
+            Gauge.builder("taskflow.cache.task-pages.weight", cache.synchronous(),
+                            c -> c.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L))
+                    .baseUnit("bytes")
+                    .register(meterRegistry);
+        }
+    }
+
+    public byte[] get(
+            String transactionId,
+            TaskFilter filter,
+            String cursor,
+            int limit,
+            TaskView view,
+            Function<String, Object> pageBuilder
+    ) {
+        if (!enabled) {
+            return objectMapper.writeValueAsBytes(pageBuilder.apply(transactionId));
+        }
+        Key key = new Key(
+                writeVersion.get(),
+                filter.status(),
+                filter.priority(),
+                filter.keyword() == null ? null : filter.keyword().toLowerCase(Locale.ROOT),
+                filter.dueDateFrom(),
+                filter.dueDateTo(),
+                cursor,
+                limit,
+                view);
+        CompletableFuture<RenderedPage> created = new CompletableFuture<>();
+        CompletableFuture<RenderedPage> page = cache.get(key, (ignored, executor) -> created);
+        if (page == created) {
+            try {
+                created.complete(split(objectMapper.writeValueAsBytes(pageBuilder.apply(transactionIdPlaceholder))));
+            } catch (RuntimeException ex) {
+                created.completeExceptionally(ex);
+                throw ex;
+            }
+        }
+        try {
+            return page.join().render(objectMapper.writeValueAsBytes(transactionId));
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        writeVersion.incrementAndGet();
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksTransitioned(TasksTransitionedEvent event) {
+        writeVersion.incrementAndGet();
+    }
+
+    private RenderedPage split(byte[] json) {
+        List<byte[]> segments = new ArrayList<>();
+        int start = 0;
+        int match = indexOf(json, placeholderJson, start);
+        while (match >= 0) {
+            segments.add(Arrays.copyOfRange(json, start, match));
+            start = match + placeholderJson.length;
+            match = indexOf(json, placeholderJson, start);
+        }
+        segments.add(Arrays.copyOfRange(json, start, json.length));
+        return new RenderedPage(segments.toArray(byte[][]::new));
+    }
+
+    private static int indexOf(byte[] source, byte[] target, int from) {
+        outer:
+        for (int i = from; i <= source.length - target.length; i++) {
+            for (int j = 0; j < target.length; j++) {
+                if (source[i + j] != target[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private record Key(
+            long writeVersion,
+            TaskStatus status,
+            TaskPriority priority,
+            String keyword,
+            LocalDate dueDateFrom,
+            LocalDate dueDateTo,
+            String cursor,
+            int limit,
+            TaskView view
+    ) {
+    }
+
+    private record RenderedPage(byte[][] segments) {
+
+        int weight() {
+            int weight = ENTRY_OVERHEAD_BYTES;
+            for (byte[] segment : segments) {
+                weight += segment.length;
+            }
+            return weight;
+        }
+
+        byte[] render(byte[] transactionIdJson) {
+            int length = 0;
+            for (byte[] segment : segments) {
+                length += segment.length;
+            }
+            byte[] body = new byte[length + (segments.length - 1) * transactionIdJson.length];
+            int position = 0;
+            for (int i = 0; i < segments.length; i++) {
+                if (i > 0) {
+                    System.arraycopy(transactionIdJson, 0, body, position, transactionIdJson.length);
+                    position += transactionIdJson.length;
+                }
+                System.arraycopy(segments[i], 0, body, position, segments[i].length);
+                position += segments[i].length;
+            }
+            return body;
+        }
+    }
+}
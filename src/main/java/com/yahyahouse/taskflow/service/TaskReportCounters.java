@@ -0,0 +1,243 @@
+package com.yahyahouse.taskflow.service;
+
+import com.yahyahouse.taskflow.model.enums.TaskPriority;
+import com.yahyahouse.taskflow.model.enums.TaskStatus;
+import com.yahyahouse.taskflow.model.event.TaskChangedEvent;
+import com.yahyahouse.taskflow.model.event.TaskSnapshot;
+import com.yahyahouse.taskflow.model.event.TasksTransitionedEvent;
+import com.yahyahouse.taskflow.repository.PriorityCountProjection;
+import com.yahyahouse.taskflow.repository.StatusCountProjection;
+import com.yahyahouse.taskflow.repository.TaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class TaskReportCounters {
+
+    private static final String DRIFT_METRIC = "taskflow.report.counters.drift";
+
+    private final TaskRepository taskRepository;
+    private final Map<TaskStatus, LongAdder> statusCounters = new EnumMap<>(TaskStatus.class);
+    private final Map<TaskPriority, LongAdder> priorityCounters = new EnumMap<>(TaskPriority.class);
+    private final Map<TaskStatus, AtomicLong> statusDrift = new EnumMap<>(TaskStatus.class);
+    private final Map<TaskPriority, AtomicLong> priorityDrift = new EnumMap<>(TaskPriority.class);
+    private final Counter reconciliations;
+    private final Counter skippedReconciliations;
+    private final Object writeKey = new Object();
+    private final AtomicLong writesStarted = new AtomicLong();
+    private final AtomicInteger writesInFlight = new AtomicInteger();
+    private final ReentrantLock reconcileLock = new ReentrantLock();
+    private final int reconcileAttempts;
+    private final Duration reconcileRetryDelay;
+    private volatile boolean seeded;
+
+    public TaskReportCounters(
+            TaskRepository taskRepository,
+            MeterRegistry meterRegistry,
+            @Value("${taskflow.report.counters.reconcile-attempts:5}") int reconcileAttempts,
+            @Value("${taskflow.report.counters.reconcile-retry-delay:PT0.05S}") Duration reconcileRetryDelay
+    ) {
+        this.taskRepository = taskRepository;
+        this.reconcileAttempts = Math.max(1, reconcileAttempts);
+        this.reconcileRetryDelay = reconcileRetryDelay;
+        for (TaskStatus status : TaskStatus.values()) {
+            statusCounters.put(status, new LongAdder());
+            AtomicLong drift = new AtomicLong();
+            statusDrift.put(status, drift);
+            Gauge.builder(DRIFT_METRIC, drift, AtomicLong::get)
+                    .tag("dimension", "status")
+                    .tag("value", status.name())
+                    .register(meterRegistry);
+        }
+        for (TaskPriority priority : TaskPriority.values()) {
+            priorityCounters.put(priority, new LongAdder());
+            AtomicLong drift = new AtomicLong();
+            priorityDrift.put(priority, drift);
+            Gauge.builder(DRIFT_METRIC, drift, AtomicLong::get)
+                    .tag("dimension", "priority")
+                    .tag("value", priority.name())
+                    .register(meterRegistry);
+        }
+        this.reconciliations = Counter.builder("taskflow.report.counters.reconciliations")
+                .register(meterRegistry);
+        this.skippedReconciliations = Counter.builder("taskflow.report.counters.reconciliations.skipped")
+                .register(meterRegistry);
+    }
+
+    public Map<TaskStatus, Long> statusCounts() {
+        if (!seeded) {
+            return loadStatusCounts();
+        }
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        statusCounters.forEach((status, counter) -> counts.put(status, counter.sum()));
+        return Collections.unmodifiableMap(counts);
+    }
+
+    public Map<TaskPriority, Long> priorityCounts() {
+        if (!seeded) {
+            return loadPriorityCounts();
+        }
+        Map<TaskPriority, Long> counts = new EnumMap<>(TaskPriority.class);
+        priorityCounters.forEach((priority, counter) -> counts.put(priority, counter.sum()));
+        return Collections.unmodifiableMap(counts);
+    }
+
+    @EventListener
+    public void onTaskChangePublished(TaskChangedEvent event) {
+        trackWrite();
+    }
+
+    @EventListener
+    public void onTransitionPublished(TasksTransitionedEvent event) {
+        trackWrite();
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        TaskSnapshot before = event.before();
+        TaskSnapshot after = event.after();
+        if (before != null) {
+            statusCounters.get(before.status()).decrement();
+            priorityCounters.get(before.priority()).decrement();
+        }
+        if (after != null) {
+            statusCounters.get(after.status()).increment();
+            priorityCounters.get(after.priority()).increment();
+        }
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksTransitioned(TasksTransitionedEvent event) {
+        long moved = 0;
+        for (Map.Entry<TaskStatus, Long> entry : event.fromCounts().entrySet()) {
+            statusCounters.get(entry.getKey()).add(-entry.getValue());
+            moved += entry.getValue();
+        }
+        statusCounters.get(event.targetStatus()).add(moved);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        reconcile();
+    }
+
+    @Scheduled(
+            initialDelayString = "${taskflow.report.counters.reconcile-interval:PT5M}",
+            fixedDelayString = "${taskflow.report.counters.reconcile-interval:PT5M}"
+    )
+    public void reconcile() {
+        reconcileLock.lock();
+        try {
+            for (int attempt = 1; attempt <= reconcileAttempts; attempt++) {
+                if (tryReconcile()) {
+                    reconciliations.increment();
+                    return;
+                }
+                if (attempt < reconcileAttempts && !pause()) {
+                    break;
+                }
+            }
+            skippedReconciliations.increment();
+        } finally {
+            reconcileLock.unlock();
+        }
+    }
+
+    private boolean tryReconcile() {
+        long startedBefore = writesStarted.get();
+        if (writesInFlight.get() > 0) {
+            return false;
+        }
+        Map<TaskStatus, Long> dbStatusCounts = loadStatusCounts();
+        Map<TaskPriority, Long> dbPriorityCounts = loadPriorityCounts();
+        if (writesInFlight.get() > 0 || writesStarted.get() != startedBefore) {
+            return false;
+        }
+        boolean recordDrift = seeded;
+        statusCounters.forEach((status, counter) -> {
+            long delta = dbStatusCounts.getOrDefault(status, 0L) - counter.sum();
+            counter.add(delta);
+            if (recordDrift) {
+                statusDrift.get(status).set(delta);
+            }
+        });
+        priorityCounters.forEach((priority, counter) -> {
+            long delta = dbPriorityCounts.getOrDefault(priority, 0L) - counter.sum();
+            counter.add(delta);
+            if (recordDrift) {
+                priorityDrift.get(priority).set(delta);
+            }
+        });
+        seeded = true;
+        return true;
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(reconcileRetryDelay);
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void trackWrite() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(writeKey)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(writeKey, Boolean.TRUE);
+        writesStarted.incrementAndGet();
+        writesInFlight.incrementAndGet();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public int getOrder() {
+                return Ordered.LOWEST_PRECEDENCE;
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(writeKey);
+                writesInFlight.decrementAndGet();
+            }
+        });
+    }
+
+    private Map<TaskStatus, Long> loadStatusCounts() {
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        for (StatusCountProjection item : taskRepository.countByStatusNative()) {
+            counts.put(TaskStatus.valueOf(item.getStatus()), item.getTotal() == null ? 0L : item.getTotal());
+        }
+        return counts;
+    }
+
+    private Map<TaskPriority, Long> loadPriorityCounts() {
+        Map<TaskPriority, Long> counts = new EnumMap<>(TaskPriority.class);
+        for (PriorityCountProjection item : taskRepository.countByPriorityNative()) {
+            counts.put(TaskPriority.valueOf(item.getPriority()), item.getTotal() == null ? 0L : item.getTotal());
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,235 @@
+package com.yahyahouse.taskflow.service;
+
+import com.yahyahouse.taskflow.model.TaskCursor;
+import com.yahyahouse.taskflow.model.TaskFilter;
+import com.yahyahouse.taskflow.model.enums.TaskPriority;
+import com.yahyahouse.taskflow.model.enums.TaskStatus;
+import com.yahyahouse.taskflow.model.event.TaskChangedEvent;
+import com.yahyahouse.taskflow.model.event.TaskSnapshot;
+import com.yahyahouse.taskflow.model.event.TasksTransitionedEvent;
+import com.yahyahouse.taskflow.repository.TaskIndexProjection;
+import com.yahyahouse.taskflow.repository.TaskRepository;
+import com.yahyahouse.taskflow.util.CommonUtil;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class TaskSearchIndex {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private static final Comparator<IndexedTask> NEWEST_FIRST = Comparator
+            .comparing(IndexedTask::createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(IndexedTask::id, Comparator.reverseOrder());
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final NavigableMap<String, ConcurrentSkipListMap<Long, Integer>> postings = new ConcurrentSkipListMap<>();
+    private final Map<Long, IndexedTask> documents = new ConcurrentHashMap<>();
+    private final RebuildBuffer rebuildBuffer = new RebuildBuffer();
+    private volatile boolean ready;
+
+    public TaskSearchIndex(TaskRepository taskRepository, PlatformTransactionManager transactionManager) {
+        this.taskRepository = taskRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public List<TaskCursor> findPage(TaskFilter filter, TaskCursor cursor, int limit) {
+        Map<Long, Integer> scores = match(filter.keyword());
+        PriorityQueue<IndexedTask> page = new PriorityQueue<>(NEWEST_FIRST.reversed());
+        for (Long id : scores.keySet()) {
+            IndexedTask document = documents.get(id);
+            if (document == null || !document.matches(filter) || !document.isAfter(cursor)) {
+                continue;
+            }
+            page.offer(document);
+            if (page.size() > limit) {
+                page.poll();
+            }
+        }
+        List<IndexedTask> ordered = new ArrayList<>(page);
+        ordered.sort(NEWEST_FIRST);
+        return ordered.stream().map(document -> new TaskCursor(document.createdAt(), document.id())).toList();
+    }
+
+    public List<Long> search(TaskFilter filter, int limit) {
+        Map<Long, Integer> scores = match(filter.keyword());
+        Comparator<IndexedTask> byRelevance = Comparator
+                .<IndexedTask>comparingInt(document -> scores.get(document.id()))
+                .reversed()
+                .thenComparing(NEWEST_FIRST);
+        PriorityQueue<IndexedTask> top = new PriorityQueue<>(byRelevance.reversed());
+        for (Long id : scores.keySet()) {
+            IndexedTask document = documents.get(id);
+            if (document == null || !document.matches(filter)) {
+                continue;
+            }
+            top.offer(document);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        return drain(top, byRelevance);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rebuildBuffer.rebuild(() -> transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<TaskIndexProjection> tasks = taskRepository.streamForSearchIndex()) {
+                tasks.forEach(task -> index(new IndexedTask(
+                        task.getId(), task.getStatus(), task.getPriority(), task.getDueDate(),
+                        task.getCreatedAt(), termWeights(task.getTitle(), task.getDescription()))));
+            }
+        }));
+        ready = true;
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        rebuildBuffer.apply(() -> {
+            TaskSnapshot after = event.after();
+            if (after == null) {
+                remove(event.before().id());
+                return;
+            }
+            index(new IndexedTask(
+                    after.id(), after.status(), after.priority(), after.dueDate(),
+                    after.createdAt(), termWeights(after.title(), after.description())));
+        });
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksTransitioned(TasksTransitionedEvent event) {
+        rebuildBuffer.apply(() -> retarget(event.taskIds(), event.targetStatus()));
+    }
+
+    private synchronized void index(IndexedTask document) {
+        IndexedTask previous = documents.put(document.id(), document);
+        if (previous != null) {
+            previous.termWeights().keySet().forEach(term -> removePosting(term, previous.id()));
+        }
+        document.termWeights().forEach((term, weight) -> postings
+                .computeIfAbsent(term, key -> new ConcurrentSkipListMap<>())
+                .put(document.id(), weight));
+    }
+
+    private synchronized void retarget(Collection<Long> ids, TaskStatus targetStatus) {
+        for (Long id : ids) {
+            documents.computeIfPresent(id, (key, document) -> document.withStatus(targetStatus));
+        }
+    }
+
+    private synchronized void remove(Long id) {
+        IndexedTask previous = documents.remove(id);
+        if (previous != null) {
+            previous.termWeights().keySet().forEach(term -> removePosting(term, id));
+        }
+    }
+
+    private void removePosting(String term, Long id) {
+        postings.computeIfPresent(term, (key, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    private Map<Long, Integer> match(String query) {
+        List<String> tokens = CommonUtil.tokenize(query);
+        if (tokens.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Integer> scores = matchToken(tokens.get(0));
+        for (int i = 1; i < tokens.size() && !scores.isEmpty(); i++) {
+            Map<Long, Integer> tokenScores = matchToken(tokens.get(i));
+            scores.keySet().retainAll(tokenScores.keySet());
+            scores.replaceAll((id, score) -> score + tokenScores.get(id));
+        }
+        return scores;
+    }
+
+    private Map<Long, Integer> matchToken(String token) {
+        Map<Long, Integer> scores = new HashMap<>();
+        if (token.length() < CommonUtil.KEYWORD_MIN_PREFIX_LENGTH) {
+            Map<Long, Integer> ids = postings.get(token);
+            if (ids != null) {
+                scores.putAll(ids);
+            }
+            return scores;
+        }
+        postings.subMap(token, true, token + Character.MAX_VALUE, false)
+                .values()
+                .forEach(ids -> ids.forEach((id, weight) -> scores.merge(id, weight, Integer::sum)));
+        return scores;
+    }
+
+    private static Map<String, Integer> termWeights(String title, String description) {
+        Map<String, Integer> weights = new HashMap<>();
+        CommonUtil.tokenize(title).forEach(term -> weights.merge(term, TITLE_WEIGHT, Integer::sum));
+        CommonUtil.tokenize(description).forEach(term -> weights.merge(term, DESCRIPTION_WEIGHT, Integer::sum));
+        return weights;
+    }
+
+    private static List<Long> drain(PriorityQueue<IndexedTask> queue, Comparator<IndexedTask> order) {
+        List<IndexedTask> ordered = new ArrayList<>(queue);
+        ordered.sort(order);
+        return ordered.stream().map(IndexedTask::id).toList();
+    }
+
+    private record IndexedTask(
+            Long id,
+            TaskStatus status,
+            TaskPriority priority,
+            LocalDate dueDate,
+            LocalDateTime createdAt,
+            Map<String, Integer> termWeights
+    ) {
+
+        boolean matches(TaskFilter filter) {
+            return (filter.status() == null || filter.status() == status)
+                    && (filter.priority() == null || filter.priority() == priority)
+                    && (filter.dueDateFrom() == null || (dueDate != null && !dueDate.isBefore(filter.dueDateFrom())))
+                    && (filter.dueDateTo() == null || (dueDate != null && !dueDate.isAfter(filter.dueDateTo())));
+        }
+
+        boolean isAfter(TaskCursor cursor) {
+            if (cursor == null) {
+                return true;
+            }
+            int compare = createdAt.compareTo(cursor.createdAt());
+            return compare < 0 || (compare == 0 && id < cursor.id());
+        }
+
+        IndexedTask withStatus(TaskStatus newStatus) {
+            return new IndexedTask(id, newStatus, priority, dueDate, createdAt, termWeights);
+        }
+    }
+}
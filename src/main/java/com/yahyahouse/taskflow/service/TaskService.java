@@ -1,19 +1,63 @@
 package com.yahyahouse.taskflow.service;
 
+import com.yahyahouse.taskflow.model.request.BatchTaskStatusItem;
 import com.yahyahouse.taskflow.model.request.CreateTaskRequest;
+import com.yahyahouse.taskflow.model.request.TransitionTaskStatusRequest;
 import com.yahyahouse.taskflow.model.request.UpdateTaskRequest;
 import com.yahyahouse.taskflow.model.request.UpdateTaskStatusRequest;
+import com.yahyahouse.taskflow.model.response.BatchTaskResponse;
+import com.yahyahouse.taskflow.model.response.TaskChangePageResponse;
+import com.yahyahouse.taskflow.model.response.TaskPageResponse;
 import com.yahyahouse.taskflow.model.response.TaskResponse;
+import com.yahyahouse.taskflow.model.response.TransitionTaskStatusResponse;
 import com.yahyahouse.taskflow.model.enums.TaskPriority;
 import com.yahyahouse.taskflow.model.enums.TaskStatus;
 import java.time.LocalDate;
 import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 public interface TaskService {
 
     TaskResponse createTask(String transactionId, CreateTaskRequest request);
 
-    List<TaskResponse> getTasks(
+    BatchTaskResponse createTasks(String transactionId, List<CreateTaskRequest> requests);
+
+    TaskPageResponse getTasks(
+            String transactionId,
+            TaskStatus status,
+            TaskPriority priority,
+            String keyword,
+            LocalDate dueDateFrom,
+            LocalDate dueDateTo,
+            String cursor,
+            Integer limit,
+            String view
+    );
+
+    byte[] getTasksJson(
+            String transactionId,
+            TaskStatus status,
+            TaskPriority priority,
+            String keyword,
+            LocalDate dueDateFrom,
+            LocalDate dueDateTo,
+            String cursor,
+            Integer limit,
+            String view
+    );
+
+    List<TaskResponse> searchTasks(
+            String transactionId,
+            String query,
+            TaskStatus status,
+            TaskPriority priority,
+            LocalDate dueDateFrom,
+            LocalDate dueDateTo,
+            Integer limit
+    );
+
+    StreamingResponseBody exportTasks(
             String transactionId,
             TaskStatus status,
             TaskPriority priority,
@@ -22,11 +66,24 @@ public interface TaskService {
             LocalDate dueDateTo
     );
 
+    SseEmitter streamTasks(String transactionId, TaskStatus status, TaskPriority priority);
+
+    TaskChangePageResponse getChanges(String transactionId, String since, Integer limit);
+
     TaskResponse getTaskById(String transactionId, Long id);
 
-    TaskResponse updateTask(String transactionId, Long id, UpdateTaskRequest request);
+    TaskResponse updateTask(String transactionId, Long id, UpdateTaskRequest request, Long expectedVersion);
+
+    TaskResponse updateTaskStatus(
+            String transactionId,
+            Long id,
+            UpdateTaskStatusRequest request,
+            Long expectedVersion
+    );
+
+    BatchTaskResponse updateTaskStatuses(String transactionId, List<BatchTaskStatusItem> items);
 
-    TaskResponse updateTaskStatus(String transactionId, Long id, UpdateTaskStatusRequest request);
+    TransitionTaskStatusResponse transitionTaskStatus(String transactionId, TransitionTaskStatusRequest request);
 
-    void deleteTask(String transactionId, Long id);
+    void deleteTask(String transactionId, Long id, Long expectedVersion);
 }
@@ -1,52 +1,128 @@
 package com.yahyahouse.taskflow.service;
 
 import com.yahya.commonlogger.Loggable;
+import com.yahyahouse.taskflow.model.request.BatchTaskStatusItem;
 import com.yahyahouse.taskflow.model.request.CreateTaskRequest;
+import com.yahyahouse.taskflow.model.request.TransitionTaskStatusRequest;
 import com.yahyahouse.taskflow.model.request.UpdateTaskRequest;
 import com.yahyahouse.taskflow.model.request.UpdateTaskStatusRequest;
+import com.yahyahouse.taskflow.model.response.BatchTaskItemResponse;
+import com.yahyahouse.taskflow.model.response.BatchTaskResponse;
+import com.yahyahouse.taskflow.model.response.TaskChangePageResponse;
+import com.yahyahouse.taskflow.model.response.TaskChangeResponse;
+import com.yahyahouse.taskflow.model.response.TaskPageResponse;
 import com.yahyahouse.taskflow.model.response.TaskResponse;
+import com.yahyahouse.taskflow.model.response.TransitionTaskStatusResponse;
+import com.yahyahouse.taskflow.model.ChangeCursor;
+import com.yahyahouse.taskflow.model.TaskCursor;
+import com.yahyahouse.taskflow.model.TaskFilter;
 import com.yahyahouse.taskflow.model.TaskMapper;
 import com.yahyahouse.taskflow.model.entity.Task;
+import com.yahyahouse.taskflow.model.entity.TaskChange;
+import com.yahyahouse.taskflow.model.event.TaskChangedEvent;
+import com.yahyahouse.taskflow.model.event.TaskSnapshot;
+import com.yahyahouse.taskflow.model.event.TasksTransitionedEvent;
+import com.yahyahouse.taskflow.model.enums.TaskChangeType;
 import com.yahyahouse.taskflow.model.enums.TaskPriority;
 import com.yahyahouse.taskflow.model.enums.TaskStatus;
+import com.yahyahouse.taskflow.model.enums.TaskView;
+import com.yahyahouse.taskflow.repository.TaskChangeRepository;
 import com.yahyahouse.taskflow.repository.TaskRepository;
+import com.yahyahouse.taskflow.util.CommonUtil;
 import com.yahyahouse.taskflow.util.ResourceNotFoundException;
 import com.yahyahouse.taskflow.util.TaskFlowException;
 import com.yahyahouse.taskflow.util.ValidationUtil;
-import com.yahyahouse.taskflow.util.CommonUtil;
-import com.yahyahouse.taskflow.util.transaction.TransactionContext;
 
+import jakarta.persistence.EntityManager;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
 
 @Service
 @Loggable
 public class TaskServiceImpl implements TaskService {
 
+    private static final int EXPORT_FLUSH_INTERVAL = 500;
+    private static final int TRANSITION_EVENT_CHUNK_SIZE = 1000;
+    private static final byte NEW_LINE = '\n';
+
     private final TaskRepository taskRepository;
     private final TaskMapper taskMapper;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskCache taskCache;
+    private final TaskSearchIndex taskSearchIndex;
+    private final TaskChangeRepository taskChangeRepository;
+    private final TaskChangeLog taskChangeLog;
+    private final TaskEventStream taskEventStream;
+    private final TaskPageCache taskPageCache;
+    private final int jdbcBatchSize;
 
-    public TaskServiceImpl(TaskRepository taskRepository, TaskMapper taskMapper) {
+    public TaskServiceImpl(
+            TaskRepository taskRepository,
+            TaskMapper taskMapper,
+            EntityManager entityManager,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventPublisher,
+            TaskCache taskCache,
+            TaskSearchIndex taskSearchIndex,
+            TaskChangeRepository taskChangeRepository,
+            TaskChangeLog taskChangeLog,
+            TaskEventStream taskEventStream,
+            TaskPageCache taskPageCache,
+            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int jdbcBatchSize
+    ) {
         this.taskRepository = taskRepository;
         this.taskMapper = taskMapper;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.taskCache = taskCache;
+        this.taskSearchIndex = taskSearchIndex;
+        this.taskChangeRepository = taskChangeRepository;
+        this.taskChangeLog = taskChangeLog;
+        this.taskEventStream = taskEventStream;
+        this.taskPageCache = taskPageCache;
+        this.jdbcBatchSize = jdbcBatchSize;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
     }
 
     @Override
+    @Transactional
     public TaskResponse createTask(String transactionId, CreateTaskRequest request) {
         try {
             ValidationUtil.validateTransactionId(transactionId);
-            applyTransactionId(transactionId);
             ValidationUtil.validateCreateTaskRequest(request, transactionId);
-            Task task = new Task();
-            task.setTitle(request.getTitle());
-            task.setDescription(request.getDescription());
-            task.setStatus(request.getStatus());
-            task.setPriority(request.getPriority());
-            task.setDueDate(request.getDueDate());
-            Task savedTask = taskRepository.save(task);
+            Task savedTask = taskRepository.saveAndFlush(newTask(request));
+            eventPublisher.publishEvent(TaskChangedEvent.created(TaskSnapshot.of(savedTask)));
             return taskMapper.toResponse(savedTask, transactionId);
         } catch (TaskFlowException ex) {
             throw ex;
@@ -58,20 +134,142 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
-    public List<TaskResponse> getTasks(
+    @Transactional
+    public BatchTaskResponse createTasks(String transactionId, List<CreateTaskRequest> requests) {
+        try {
+            ValidationUtil.validateTransactionId(transactionId);
+            ValidationUtil.validateBatchSize(requests);
+            List<BatchTaskItemResponse> results = new ArrayList<>(Collections.nCopies(requests.size(), null));
+            Map<Integer, Task> pending = new LinkedHashMap<>();
+            for (int index = 0; index < requests.size(); index++) {
+                CreateTaskRequest request = requests.get(index);
+                try {
+                    ValidationUtil.validateCreateTaskRequest(request, transactionId);
+                } catch (TaskFlowException ex) {
+                    results.set(index, failedItem(index, null, ex));
+                    continue;
+                }
+                pending.put(index, taskRepository.save(newTask(request)));
+                if (pending.size() == jdbcBatchSize) {
+                    flushCreatedChunk(pending, results);
+                }
+            }
+            flushCreatedChunk(pending, results);
+            return toBatchResponse(results, transactionId);
+        } catch (TaskFlowException ex) {
+            throw ex;
+        } catch (DataAccessException ex) {
+            throw new TaskFlowException("Database error", ex, HttpStatus.INTERNAL_SERVER_ERROR.value());
+        } catch (Exception ex) {
+            throw new TaskFlowException("Internal server error", ex, HttpStatus.INTERNAL_SERVER_ERROR.value());
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskPageResponse getTasks(
             String transactionId,
             TaskStatus status,
             TaskPriority priority,
             String keyword,
             LocalDate dueDateFrom,
-            LocalDate dueDateTo
+            LocalDate dueDateTo,
+            String cursor,
+            Integer limit,
+            String view
+    ) {
+        try {
+            ValidationUtil.validateTransactionId(transactionId);
+            int pageLimit = ValidationUtil.resolvePageLimit(limit);
+            TaskCursor taskCursor = TaskCursor.decode(cursor);
+            boolean includeDescription = ValidationUtil.resolveTaskView(view) == TaskView.FULL;
+            TaskFilter filter = TaskFilter.of(status, priority, keyword, dueDateFrom, dueDateTo);
+            List<TaskSnapshot> pageTasks;
+            String nextCursor;
+            if (filter.hasKeyword() && taskSearchIndex.isReady()) {
+                List<TaskCursor> entries = taskSearchIndex.findPage(filter, taskCursor, pageLimit + 1);
+                boolean hasNext = entries.size() > pageLimit;
+                List<TaskCursor> pageEntries = hasNext ? entries.subList(0, pageLimit) : entries;
+                pageTasks = findRowsInOrder(ids(pageEntries), includeDescription);
+                nextCursor = hasNext ? pageEntries.get(pageEntries.size() - 1).encode() : null;
+            } else {
+                List<TaskSnapshot> tasks = taskRepository.findPageRows(filter, taskCursor, pageLimit + 1, includeDescription);
+                boolean hasNext = tasks.size() > pageLimit;
+                pageTasks = hasNext ? tasks.subList(0, pageLimit) : tasks;
+                nextCursor = hasNext ? TaskCursor.of(pageTasks.get(pageTasks.size() - 1)).encode() : null;
+            }
+
+            TaskPageResponse response = new TaskPageResponse();
+            response.setItems(pageTasks.stream()
+                    .map(task -> includeDescription
+                            ? taskMapper.toResponse(task, transactionId)
+                            : taskMapper.toSummaryResponse(task, transactionId))
+                    .toList());
+            response.setLimit(pageLimit);
+            response.setNextCursor(nextCursor);
+            response.setTransactionId(transactionId);
+            return response;
+        } catch (TaskFlowException ex) {
+            throw ex;
+        } catch (DataAccessException ex) {
+            throw new TaskFlowException("Database error", ex, HttpStatus.INTERNAL_SERVER_ERROR.value());
+        } catch (Exception ex) {
+            throw new TaskFlowException("Internal server error", ex, HttpStatus.INTERNAL_SERVER_ERROR.value());
+        }
+    }
+
+    @Override
+    public byte[] getTasksJson(
+            String transactionId,
+            TaskStatus status,
+            TaskPriority priority,
+            String keyword,
+            LocalDate dueDateFrom,
+            LocalDate dueDateTo,
+            String cursor,
+            Integer limit,
+            String view
     ) {
         try {
             ValidationUtil.validateTransactionId(transactionId);
-            applyTransactionId(transactionId);
-            String normalizedKeyword = CommonUtil.trimToNull(keyword);
-            return taskRepository.findByFilters(status, priority, normalizedKeyword, dueDateFrom, dueDateTo)
-                    .stream()
+            int pageLimit = ValidationUtil.resolvePageLimit(limit);
+            TaskView taskView = ValidationUtil.resolveTaskView(view);
+            String normalizedCursor = CommonUtil.trimToNull(cursor);
+            TaskCursor.decode(normalizedCursor);
+            TaskFilter filter = TaskFilter.of(status, priority, keyword, dueDateFrom, dueDateTo);
+            return taskPageCache.get(transactionId, filter, normalizedCursor, pageLimit, taskView,
+                    pageTransactionId -> readOnlyTransactionTemplate.execute(transactionStatus -> getTasks(
+                            pageTransactionId, status, priority, keyword, dueDateFrom, dueDateTo,
+                            normalizedCursor, pageLimit, view)));
+        } catch (TaskFlowException ex) {
+            throw ex;
+        } catch (DataAccessException ex) {
+            throw new TaskFlowException("Database error", ex, HttpStatus.INTERNAL_SERVER_ERROR.value());
+        } catch (Exception ex) {
+            throw new TaskFlowException("Internal server error", ex, HttpStatus.INTERNAL_SERVER_ERROR.value());
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskResponse> searchTasks(
+            String transactionId,
+            String query,
+            TaskStatus status,
+            TaskPriority priority,
+            LocalDate dueDateFrom,
+            LocalDate dueDateTo,
+            Integer limit
+    ) {
+        try {
+            ValidationUtil.validateTransactionId(transactionId);
+            ValidationUtil.validateRequiredText(query, "q");
+            int resultLimit = ValidationUtil.resolvePageLimit(limit);
+            if (!taskSearchIndex.isReady()) {
+                throw new TaskFlowException("Search index is not ready", null, HttpStatus.SERVICE_UNAVAILABLE.value());
+            }
+            TaskFilter filter = TaskFilter.of(status, priority, query, dueDateFrom, dueDateTo);
+            return findRowsInOrder(taskSearchIndex.search(filter, resultLimit), true).stream()
                     .map(task -> taskMapper.toResponse(task, transactionId))
                     .toList();
         } catch (TaskFlowException ex) {
@@ -83,13 +281,107 @@ public class TaskServiceImpl implements TaskService {
         }
     }
 
+    @Override
+    public StreamingResponseBody exportTasks(
+            String transactionId,
+            TaskStatus status,
+            TaskPriority priority,
+            String keyword,
+            LocalDate dueDateFrom,
+            LocalDate dueDateTo
+    ) {
+        try {
+            ValidationUtil.validateTransactionId(transactionId);
+            TaskFilter filter = TaskFilter.of(status, priority, keyword, dueDateFrom, dueDateTo);
+            return outputStream -> {
+                readOnlyTransactionTemplate.executeWithoutResult(transactionStatus -> {
+                    if (filter.hasKeyword() && taskSearchIndex.isReady()) {
+                        writeIndexedExport(outputStream, transactionId, filter);
+                    } else {
+                        writeExport(outputStream, transactionId, filter);
+                    }
+                });
+            };
+        } catch (TaskFlowException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new TaskFlowException("Internal server error", ex, HttpStatus.INTERNAL_SERVER_ERROR.value());
+        }
+    }
+
+    @Override
+    public SseEmitter streamTasks(String transactionId, TaskStatus status, TaskPriority priority) {
+        try {
+            ValidationUtil.validateTransactionId(transactionId);
+            return taskEventStream.subscribe(status, priority);
+        } catch (TaskFlowException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new TaskFlowException("Internal server error", ex, HttpStatus.INTERNAL_SERVER_ERROR.value());
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskChangePageResponse getChanges(String transactionId, String since, Integer limit) {
+        try {
+            ValidationUtil.validateTransactionId(transactionId);
+            int pageLimit = ValidationUtil.resolvePageLimit(limit);
+            if (ChangeCursor.isNow(since)) {
+                return headChangePage(transactionId, pageLimit);
+            }
+            ChangeCursor requested = ChangeCursor.decode(since);
+            ChangeCursor cursor = requested == null ? new ChangeCursor(taskChangeLog.purgedThrough()) : requested;
+            List<TaskChange> changes = taskChangeRepository.findPage(cursor.seq(), Limit.of(pageLimit + 1));
+            if (cursor.seq() < taskChangeLog.purgedThrough()) {
+                throw new TaskFlowException(
+                        "since is older than the change log retention, resync with GET /api/tasks",
+                        null,
+                        HttpStatus.GONE.value());
+            }
+            boolean hasMore = changes.size() > pageLimit;
+            List<TaskChange> pageChanges = hasMore ? changes.subList(0, pageLimit) : changes;
+
+            Map<Long, TaskChange> latest = new LinkedHashMap<>();
+            for (TaskChange change : pageChanges) {
+                latest.remove(change.getTaskId());
+                latest.put(change.getTaskId(), change);
+            }
+            List<Long> liveIds = latest.values().stream()
+                    .filter(change -> change.getType() != TaskChangeType.DELETED)
+                    .map(TaskChange::getTaskId)
+                    .toList();
+            Map<Long, TaskSnapshot> rows = new HashMap<>();
+            taskRepository.findRowsByIds(liveIds, true).forEach(row -> rows.put(row.id(), row));
+
+            TaskChangePageResponse response = new TaskChangePageResponse();
+            response.setItems(latest.values().stream()
+                    .map(change -> toChangeResponse(change, rows.get(change.getTaskId()), transactionId))
+                    .toList());
+            response.setLimit(pageLimit);
+            response.setNextCursor(pageChanges.isEmpty()
+                    ? cursor.encode()
+                    : new ChangeCursor(pageChanges.get(pageChanges.size() - 1).getSeq()).encode());
+            response.setHasMore(hasMore);
+            response.setTransactionId(transactionId);
+            return response;
+        } catch (TaskFlowException ex) {
+            throw ex;
+        } catch (DataAccessException ex) {
+            throw new TaskFlowException("Database error", ex, HttpStatus.INTERNAL_SERVER_ERROR.value());
+        } catch (Exception ex) {
+            throw new TaskFlowException("Internal server error", ex, HttpStatus.INTERNAL_SERVER_ERROR.value());
+        }
+    }
+
     @Override
     public TaskResponse getTaskById(String transactionId, Long id) {
         try {
             ValidationUtil.validateTransactionId(transactionId);
-            applyTransactionId(transactionId);
             ValidationUtil.validateTaskId(id);
-            Task task = findTaskOrThrow(id);
+            TaskSnapshot task = taskCache
+                    .get(id, "getTaskById", key -> taskRepository.findById(key).map(TaskSnapshot::of))
+                    .orElseThrow(() -> taskNotFound(id));
             return taskMapper.toResponse(task, transactionId);
         } catch (TaskFlowException | ResourceNotFoundException ex) {
             throw ex;
@@ -101,23 +393,35 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
-    public TaskResponse updateTask(String transactionId, Long id, UpdateTaskRequest request) {
+    @Transactional
+    public TaskResponse updateTask(
+            String transactionId,
+            Long id,
+            UpdateTaskRequest request,
+            Long expectedVersion
+    ) {
         try {
             ValidationUtil.validateTransactionId(transactionId);
-            applyTransactionId(transactionId);
             ValidationUtil.validateTaskId(id);
             ValidationUtil.validateUpdateTaskRequest(request, transactionId);
             request.setTransactionId(transactionId);
             Task task = findTaskOrThrow(id);
+            if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+                throw taskModified(id);
+            }
+            TaskSnapshot before = TaskSnapshot.of(task);
             task.setTitle(request.getTitle());
             task.setDescription(request.getDescription());
             task.setStatus(request.getStatus() != null ? request.getStatus() : task.getStatus());
             task.setPriority(request.getPriority() != null ? request.getPriority() : task.getPriority());
             task.setDueDate(request.getDueDate());
-            Task updatedTask = taskRepository.save(task);
+            Task updatedTask = taskRepository.saveAndFlush(task);
+            eventPublisher.publishEvent(TaskChangedEvent.updated(before, TaskSnapshot.of(updatedTask)));
             return taskMapper.toResponse(updatedTask, transactionId);
         } catch (TaskFlowException | ResourceNotFoundException ex) {
             throw ex;
+        } catch (OptimisticLockingFailureException ex) {
+            throw taskConflict(ex);
         } catch (DataAccessException ex) {
             throw new TaskFlowException("Database error", ex, HttpStatus.INTERNAL_SERVER_ERROR.value());
         } catch (Exception ex) {
@@ -126,20 +430,51 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
-    public TaskResponse updateTaskStatus(String transactionId, Long id, UpdateTaskStatusRequest request) {
+    @Transactional
+    public TaskResponse updateTaskStatus(
+            String transactionId,
+            Long id,
+            UpdateTaskStatusRequest request,
+            Long expectedVersion
+    ) {
         try {
             ValidationUtil.validateTransactionId(transactionId);
-            applyTransactionId(transactionId);
             ValidationUtil.validateTaskId(id);
             ValidationUtil.validateUpdateTaskStatusRequest(request, transactionId);
             request.setTransactionId(transactionId);
-            Task task = findTaskOrThrow(id);
-            task.setStatus(request.getStatus());
-            Task updatedTask = taskRepository.save(task);
-            return taskMapper.toResponse(updatedTask, transactionId);
+            LocalDateTime updatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+            TaskSnapshot before = taskRepository
+                    .updateStatusByIdReturning(id, request.getStatus(), updatedAt, expectedVersion)
+                    .orElseThrow(() -> taskMissingOrModified(id, expectedVersion));
+            TaskSnapshot after = before.withStatus(request.getStatus(), updatedAt);
+            eventPublisher.publishEvent(TaskChangedEvent.statusChanged(before, after));
+            return taskMapper.toResponse(after, transactionId);
         } catch (TaskFlowException | ResourceNotFoundException ex) {
             throw ex;
-        }  catch (DataAccessException ex) {
+        } catch (DataAccessException ex) {
+            throw new TaskFlowException("Database error", ex, HttpStatus.INTERNAL_SERVER_ERROR.value());
+        } catch (Exception ex) {
+            throw new TaskFlowException("Internal server error", ex, HttpStatus.INTERNAL_SERVER_ERROR.value());
+        }
+    }
+
+    @Override
+    @Transactional
+    public BatchTaskResponse updateTaskStatuses(String transactionId, List<BatchTaskStatusItem> items) {
+        try {
+            ValidationUtil.validateTransactionId(transactionId);
+            ValidationUtil.validateBatchSize(items);
+            List<BatchTaskItemResponse> results = new ArrayList<>(Collections.nCopies(items.size(), null));
+            for (int start = 0; start < items.size(); start += jdbcBatchSize) {
+                int end = Math.min(start + jdbcBatchSize, items.size());
+                updateStatusChunk(items, start, end, results);
+            }
+            return toBatchResponse(results, transactionId);
+        } catch (TaskFlowException ex) {
+            throw ex;
+        } catch (OptimisticLockingFailureException ex) {
+            throw taskConflict(ex);
+        } catch (DataAccessException ex) {
             throw new TaskFlowException("Database error", ex, HttpStatus.INTERNAL_SERVER_ERROR.value());
         } catch (Exception ex) {
             throw new TaskFlowException("Internal server error", ex, HttpStatus.INTERNAL_SERVER_ERROR.value());
@@ -147,28 +482,250 @@ public class TaskServiceImpl implements TaskService {
     }
 
     @Override
-    public void deleteTask(String transactionId, Long id) {
+    @Transactional
+    public TransitionTaskStatusResponse transitionTaskStatus(String transactionId, TransitionTaskStatusRequest request) {
+        try {
+            ValidationUtil.validateTransactionId(transactionId);
+            ValidationUtil.validateTransitionTaskStatusRequest(request, transactionId);
+            request.setTransactionId(transactionId);
+            TaskFilter filter = TaskFilter.of(
+                    request.getStatus(), request.getPriority(), request.getKeyword(),
+                    request.getDueDateFrom(), request.getDueDateTo());
+            LocalDateTime updatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+            long transitioned = taskRepository.transitionStatusReturning(
+                    filter, request.getTargetStatus(), updatedAt, TRANSITION_EVENT_CHUNK_SIZE,
+                    previousStatuses -> publishTransitioned(previousStatuses, request.getTargetStatus(), updatedAt));
+            return new TransitionTaskStatusResponse(transactionId, request.getTargetStatus(), transitioned);
+        } catch (TaskFlowException ex) {
+            throw ex;
+        } catch (DataAccessException ex) {
+            throw new TaskFlowException("Database error", ex, HttpStatus.INTERNAL_SERVER_ERROR.value());
+        } catch (Exception ex) {
+            throw new TaskFlowException("Internal server error", ex, HttpStatus.INTERNAL_SERVER_ERROR.value());
+        }
+    }
+
+    @Override
+    @Transactional
+    public void deleteTask(String transactionId, Long id, Long expectedVersion) {
         try {
             ValidationUtil.validateTransactionId(transactionId);
-            applyTransactionId(transactionId);
             ValidationUtil.validateTaskId(id);
-            Task task = findTaskOrThrow(id);
-            taskRepository.delete(task);
+            TaskSnapshot deleted = taskRepository.deleteByIdReturning(id, expectedVersion)
+                    .orElseThrow(() -> taskMissingOrModified(id, expectedVersion));
+            eventPublisher.publishEvent(TaskChangedEvent.deleted(deleted));
         } catch (TaskFlowException | ResourceNotFoundException ex) {
             throw ex;
-        }  catch (DataAccessException ex) {
+        } catch (DataAccessException ex) {
             throw new TaskFlowException("Database error", ex, HttpStatus.INTERNAL_SERVER_ERROR.value());
         } catch (Exception ex) {
             throw new TaskFlowException("Internal server error", ex, HttpStatus.INTERNAL_SERVER_ERROR.value());
         }
     }
 
+    private void publishTransitioned(
+            Map<Long, TaskStatus> previousStatuses,
+            TaskStatus targetStatus,
+            LocalDateTime updatedAt
+    ) {
+        Map<TaskStatus, Long> fromCounts = new EnumMap<>(TaskStatus.class);
+        previousStatuses.values().forEach(status -> fromCounts.merge(status, 1L, Long::sum));
+        eventPublisher.publishEvent(new TasksTransitionedEvent(fromCounts, targetStatus, updatedAt, previousStatuses));
+    }
+
+    private TaskChangePageResponse headChangePage(String transactionId, int pageLimit) {
+        Long maxSeq = taskChangeRepository.findMaxSeq();
+        long head = Math.max(maxSeq == null ? 0 : maxSeq, taskChangeLog.purgedThrough());
+        TaskChangePageResponse response = new TaskChangePageResponse();
+        response.setItems(List.of());
+        response.setLimit(pageLimit);
+        response.setNextCursor(new ChangeCursor(head).encode());
+        response.setHasMore(false);
+        response.setTransactionId(transactionId);
+        return response;
+    }
+
+    private TaskChangeResponse toChangeResponse(TaskChange change, TaskSnapshot row, String transactionId) {
+        if (row == null) {
+            return new TaskChangeResponse(
+                    change.getSeq(), change.getTaskId(), TaskChangeType.DELETED, change.getChangedAt(), null);
+        }
+        return new TaskChangeResponse(
+                change.getSeq(), change.getTaskId(), change.getType(), change.getChangedAt(),
+                taskMapper.toResponse(row, transactionId));
+    }
+
+    private static List<Long> ids(List<TaskCursor> entries) {
+        return entries.stream().map(TaskCursor::id).toList();
+    }
+
+    private List<TaskSnapshot> findRowsInOrder(List<Long> ids, boolean includeDescription) {
+        Map<Long, TaskSnapshot> rows = new HashMap<>();
+        taskRepository.findRowsByIds(ids, includeDescription).forEach(row -> rows.put(row.id(), row));
+        List<TaskSnapshot> ordered = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            TaskSnapshot row = rows.get(id);
+            if (row != null) {
+                ordered.add(row);
+            }
+        }
+        return ordered;
+    }
+
+    private void writeExport(OutputStream outputStream, String transactionId, TaskFilter filter) {
+        try (Stream<TaskSnapshot> tasks = taskRepository.streamRows(filter)) {
+            int written = 0;
+            for (TaskSnapshot task : (Iterable<TaskSnapshot>) tasks::iterator) {
+                writeExportRow(outputStream, task, transactionId);
+                if (++written % EXPORT_FLUSH_INTERVAL == 0) {
+                    outputStream.flush();
+                }
+            }
+            outputStream.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void writeIndexedExport(OutputStream outputStream, String transactionId, TaskFilter filter) {
+        try {
+            TaskCursor cursor = null;
+            while (true) {
+                List<TaskCursor> entries = taskSearchIndex.findPage(filter, cursor, EXPORT_FLUSH_INTERVAL);
+                for (TaskSnapshot task : findRowsInOrder(ids(entries), true)) {
+                    writeExportRow(outputStream, task, transactionId);
+                }
+                outputStream.flush();
+                if (entries.size() < EXPORT_FLUSH_INTERVAL) {
+                    return;
+                }
+                cursor = entries.get(entries.size() - 1);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void writeExportRow(OutputStream outputStream, TaskSnapshot task, String transactionId) throws IOException {
+        outputStream.write(objectMapper.writeValueAsBytes(taskMapper.toResponse(task, transactionId)));
+        outputStream.write(NEW_LINE);
+    }
+
+    private Task newTask(CreateTaskRequest request) {
+        Task task = new Task();
+        task.setTitle(request.getTitle());
+        task.setDescription(request.getDescription());
+        task.setStatus(request.getStatus());
+        task.setPriority(request.getPriority());
+        task.setDueDate(request.getDueDate());
+        return task;
+    }
+
+    private void flushCreatedChunk(Map<Integer, Task> pending, List<BatchTaskItemResponse> results) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        taskRepository.flush();
+        pending.forEach((index, task) -> {
+            eventPublisher.publishEvent(TaskChangedEvent.created(TaskSnapshot.of(task)));
+            results.set(index, successItem(index, task.getId()));
+        });
+        entityManager.clear();
+        pending.clear();
+    }
+
+    private void updateStatusChunk(
+            List<BatchTaskStatusItem> items,
+            int start,
+            int end,
+            List<BatchTaskItemResponse> results
+    ) {
+        List<Long> ids = new ArrayList<>(end - start);
+        for (int index = start; index < end; index++) {
+            BatchTaskStatusItem item = items.get(index);
+            try {
+                ValidationUtil.validateBatchTaskStatusItem(item);
+                ids.add(item.getId());
+            } catch (TaskFlowException ex) {
+                results.set(index, failedItem(index, item == null ? null : item.getId(), ex));
+            }
+        }
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Task> tasks = new HashMap<>();
+        taskRepository.findAllById(ids).forEach(task -> tasks.put(task.getId(), task));
+        Map<Long, TaskSnapshot> before = new LinkedHashMap<>();
+        List<Integer> updatedIndexes = new ArrayList<>(ids.size());
+        for (int index = start; index < end; index++) {
+            if (results.get(index) != null) {
+                continue;
+            }
+            BatchTaskStatusItem item = items.get(index);
+            Task task = tasks.get(item.getId());
+            if (task == null) {
+                results.set(index, failedItem(index, item.getId(), taskNotFound(item.getId())));
+                continue;
+            }
+            before.putIfAbsent(task.getId(), TaskSnapshot.of(task));
+            task.setStatus(item.getStatus());
+            updatedIndexes.add(index);
+        }
+
+        taskRepository.flush();
+        before.forEach((id, snapshot) -> eventPublisher.publishEvent(
+                TaskChangedEvent.statusChanged(snapshot, TaskSnapshot.of(tasks.get(id)))));
+        for (int index : updatedIndexes) {
+            results.set(index, successItem(index, items.get(index).getId()));
+        }
+        entityManager.clear();
+    }
+
+    private BatchTaskItemResponse successItem(int index, Long id) {
+        return new BatchTaskItemResponse(index, id, true, HttpStatus.OK.value(), null);
+    }
+
+    private BatchTaskItemResponse failedItem(int index, Long id, RuntimeException ex) {
+        int httpStatus = ex instanceof TaskFlowException taskFlowException
+                ? taskFlowException.getHttpStatusCode()
+                : HttpStatus.BAD_REQUEST.value();
+        return new BatchTaskItemResponse(index, id, false, httpStatus, ex.getMessage());
+    }
+
+    private BatchTaskResponse toBatchResponse(List<BatchTaskItemResponse> results, String transactionId) {
+        int succeeded = (int) results.stream().filter(BatchTaskItemResponse::isSuccess).count();
+        BatchTaskResponse response = new BatchTaskResponse();
+        response.setTotal(results.size());
+        response.setSucceeded(succeeded);
+        response.setFailed(results.size() - succeeded);
+        response.setResults(results);
+        response.setTransactionId(transactionId);
+        return response;
+    }
+
     private Task findTaskOrThrow(Long id) {
         return taskRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+                .orElseThrow(() -> taskNotFound(id));
+    }
+
+    private ResourceNotFoundException taskNotFound(Long id) {
+        return new ResourceNotFoundException("Task not found with id: " + id);
+    }
+
+    private RuntimeException taskMissingOrModified(Long id, Long expectedVersion) {
+        if (expectedVersion != null && taskRepository.existsById(id)) {
+            return taskModified(id);
+        }
+        return taskNotFound(id);
+    }
+
+    private TaskFlowException taskModified(Long id) {
+        return new TaskFlowException(
+                "Task " + id + " does not match If-Match", null, HttpStatus.PRECONDITION_FAILED.value());
     }
 
-    private void applyTransactionId(String transactionId) {
-        TransactionContext.set(transactionId);
+    private TaskFlowException taskConflict(OptimisticLockingFailureException ex) {
+        return new TaskFlowException("Task was modified concurrently", ex, HttpStatus.CONFLICT.value());
     }
 }
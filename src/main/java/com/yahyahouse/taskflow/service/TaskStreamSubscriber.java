@@ -0,0 +1,149 @@
+package com.yahyahouse.taskflow.service;
+
+import com.yahyahouse.taskflow.model.enums.TaskPriority;
+import com.yahyahouse.taskflow.model.enums.TaskStatus;
+import com.yahyahouse.taskflow.model.event.TaskSnapshot;
+import io.micrometer.core.instrument.Counter;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+final class TaskStreamSubscriber {
+
+    static final String TASK_EVENT = "task";
+    static final String DUE_EVENT = "due";
+    static final String RESYNC_EVENT = "resync";
+
+    private static final Key RESYNC_KEY = new Key(RESYNC_EVENT, null);
+    private static final Key HEARTBEAT_KEY = new Key("heartbeat", null);
+
+    private final SseEmitter emitter;
+    private final TaskStatus status;
+    private final TaskPriority priority;
+    private final int capacity;
+    private final Executor executor;
+    private final Counters counters;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<Key, Object> pending = new LinkedHashMap<>();
+    private boolean draining;
+    private boolean closed;
+
+    TaskStreamSubscriber(
+            SseEmitter emitter,
+            TaskStatus status,
+            TaskPriority priority,
+            int capacity,
+            Executor executor,
+            Counters counters
+    ) {
+        this.emitter = emitter;
+        this.status = status;
+        this.priority = priority;
+        this.capacity = capacity;
+        this.executor = executor;
+        this.counters = counters;
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    boolean matches(TaskSnapshot task) {
+        return task != null
+                && (status == null || status == task.status())
+                && (priority == null || priority == task.priority());
+    }
+
+    void offer(String name, Long taskId, Object data) {
+        enqueue(new Key(name, taskId), data);
+    }
+
+    void resync(Object data) {
+        enqueue(RESYNC_KEY, data);
+    }
+
+    void heartbeat() {
+        enqueue(HEARTBEAT_KEY, null);
+    }
+
+    void close() {
+        lock.lock();
+        try {
+            closed = true;
+            pending.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void enqueue(Key key, Object data) {
+        boolean schedule;
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            if (pending.containsKey(key)) {
+                pending.put(key, data);
+                counters.coalesced().increment();
+            } else if (pending.size() >= capacity) {
+                pending.clear();
+                pending.put(RESYNC_KEY, Map.of("reason", "overflow"));
+                counters.overflowed().increment();
+            } else {
+                pending.put(key, data);
+            }
+            schedule = !draining;
+            draining = true;
+        } finally {
+            lock.unlock();
+        }
+        if (schedule) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            Key key;
+            Object data;
+            lock.lock();
+            try {
+                if (closed || pending.isEmpty()) {
+                    draining = false;
+                    return;
+                }
+                Iterator<Map.Entry<Key, Object>> iterator = pending.entrySet().iterator();
+                Map.Entry<Key, Object> next = iterator.next();
+                iterator.remove();
+                key = next.getKey();
+                data = next.getValue();
+            } finally {
+                lock.unlock();
+            }
+            try {
+                if (key == HEARTBEAT_KEY) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                } else {
+                    emitter.send(SseEmitter.event().name(key.name()).data(data, MediaType.APPLICATION_JSON));
+                    counters.sent().increment();
+                }
+            } catch (IOException | IllegalStateException ex) {
+                close();
+                emitter.completeWithError(ex);
+                return;
+            }
+        }
+    }
+
+    record Counters(Counter sent, Counter coalesced, Counter overflowed) {
+    }
+
+    private record Key(String name, Long taskId) {
+    }
+}
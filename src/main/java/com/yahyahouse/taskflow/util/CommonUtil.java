@@ -4,9 +4,22 @@ import org.springframework.util.StringUtils;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 
 public final class CommonUtil {
 
+    public static final int DATE_LENGTH = 10;
+    public static final int DATE_TIME_LENGTH = 19;
+    public static final int KEYWORD_MIN_PREFIX_LENGTH = 2;
+
+    private static final String NON_TERM_CHAR = "[^\\p{L}\\p{Nd}]";
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
     private CommonUtil() {
     }
 
@@ -18,12 +31,66 @@ public final class CommonUtil {
         return hasText(value) ? value.trim() : null;
     }
 
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        String normalized = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean tokenChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (tokenChar && start < 0) {
+                start = i;
+            } else if (!tokenChar && start >= 0) {
+                tokens.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    public static String keywordTermRegex(String token) {
+        String prefix = "(^|" + NON_TERM_CHAR + ")" + token;
+        return token.length() < KEYWORD_MIN_PREFIX_LENGTH ? prefix + "($|" + NON_TERM_CHAR + ")" : prefix;
+    }
+
     public static String formatDateTime(LocalDateTime dateTime) {
-        String pattern = "yyyy-MM-dd HH:mm:ss";
-        return dateTime.format(java.time.format.DateTimeFormatter.ofPattern(pattern));
+        return dateTime == null ? null : dateTime.format(DATE_TIME_FORMATTER);
+    }
+
+    public static String formatDate(LocalDate date) {
+        return date == null ? null : date.format(DATE_FORMATTER);
+    }
+
+    public static boolean isWritableYear(int year) {
+        return year >= 0 && year <= 9999;
+    }
+
+    public static int writeDate(LocalDate date, char[] buffer, int offset) {
+        writeDigits(buffer, offset, date.getYear(), 4);
+        buffer[offset + 4] = '-';
+        writeDigits(buffer, offset + 5, date.getMonthValue(), 2);
+        buffer[offset + 7] = '-';
+        writeDigits(buffer, offset + 8, date.getDayOfMonth(), 2);
+        return offset + DATE_LENGTH;
+    }
+
+    public static int writeDateTime(LocalDateTime dateTime, char[] buffer, int offset) {
+        int position = writeDate(dateTime.toLocalDate(), buffer, offset);
+        buffer[position] = ' ';
+        writeDigits(buffer, position + 1, dateTime.getHour(), 2);
+        buffer[position + 3] = ':';
+        writeDigits(buffer, position + 4, dateTime.getMinute(), 2);
+        buffer[position + 6] = ':';
+        writeDigits(buffer, position + 7, dateTime.getSecond(), 2);
+        return offset + DATE_TIME_LENGTH;
     }
-    public static String formatDate(LocalDate dateTime) {
-        String pattern = "yyyy-MM-dd";
-        return dateTime.format(java.time.format.DateTimeFormatter.ofPattern(pattern));
+
+    private static void writeDigits(char[] buffer, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
     }
 }
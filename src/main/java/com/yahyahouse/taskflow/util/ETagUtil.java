@@ -0,0 +1,35 @@
+package com.yahyahouse.taskflow.util;
+
+import org.springframework.http.HttpStatus;
+
+public final class ETagUtil {
+
+    private static final String ANY = "*";
+
+    private ETagUtil() {
+    }
+
+    public static String toETag(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    public static Long parseIfMatchVersion(String ifMatch) {
+        String value = CommonUtil.trimToNull(ifMatch);
+        if (value == null || ANY.equals(value)) {
+            return null;
+        }
+        if (value.length() < 3 || value.charAt(0) != '"' || value.charAt(value.length() - 1) != '"') {
+            throw preconditionFailed();
+        }
+        try {
+            return Long.parseLong(value.substring(1, value.length() - 1));
+        } catch (NumberFormatException ex) {
+            throw preconditionFailed();
+        }
+    }
+
+    private static TaskFlowException preconditionFailed() {
+        return new TaskFlowException("If-Match must be a strong ETag returned by this API", null,
+                HttpStatus.PRECONDITION_FAILED.value());
+    }
+}
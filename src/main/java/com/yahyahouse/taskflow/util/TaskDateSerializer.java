@@ -0,0 +1,19 @@
+package com.yahyahouse.taskflow.util;
+
+import java.time.LocalDate;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+
+public class TaskDateSerializer extends ValueSerializer<LocalDate> {
+
+    @Override
+    public void serialize(LocalDate value, JsonGenerator gen, SerializationContext ctxt) {
+        if (!CommonUtil.isWritableYear(value.getYear())) {
+            gen.writeString(CommonUtil.formatDate(value));
+            return;
+        }
+        char[] buffer = new char[CommonUtil.DATE_LENGTH];
+        gen.writeString(buffer, 0, CommonUtil.writeDate(value, buffer, 0));
+    }
+}
@@ -0,0 +1,19 @@
+package com.yahyahouse.taskflow.util;
+
+import java.time.LocalDateTime;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+
+public class TaskDateTimeSerializer extends ValueSerializer<LocalDateTime> {
+
+    @Override
+    public void serialize(LocalDateTime value, JsonGenerator gen, SerializationContext ctxt) {
+        if (!CommonUtil.isWritableYear(value.getYear())) {
+            gen.writeString(CommonUtil.formatDateTime(value));
+            return;
+        }
+        char[] buffer = new char[CommonUtil.DATE_TIME_LENGTH];
+        gen.writeString(buffer, 0, CommonUtil.writeDateTime(value, buffer, 0));
+    }
+}
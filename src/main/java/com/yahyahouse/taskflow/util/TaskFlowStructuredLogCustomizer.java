@@ -18,6 +18,9 @@ public class TaskFlowStructuredLogCustomizer implements StructuredLogCustomizer
             boolean success,
             Throwable throwable
     ) {
+        if (throwable == null) {
+            return;
+        }
         Integer resolvedHttpStatusCode = resolveHttpStatusCode(throwable);
         if (resolvedHttpStatusCode != null) {
             payload.put("httpStatusCode", resolvedHttpStatusCode);
@@ -25,42 +28,19 @@ public class TaskFlowStructuredLogCustomizer implements StructuredLogCustomizer
     }
 
     private Integer resolveHttpStatusCode(Throwable throwable) {
-        TaskFlowException taskFlowException = findTaskFlowException(throwable);
-        if (taskFlowException != null) {
-            return taskFlowException.getHttpStatusCode();
-        }
-
-        ResourceNotFoundException resourceNotFoundException = findResourceNotFoundException(throwable);
-        if (resourceNotFoundException != null) {
-            return HttpStatus.BAD_REQUEST.value();
-        }
-
-        return null;
-    }
-
-    private TaskFlowException findTaskFlowException(Throwable throwable) {
+        Integer resourceNotFoundStatusCode = null;
         Throwable current = throwable;
         int depth = 0;
         while (current != null && depth < 10) {
             if (current instanceof TaskFlowException taskFlowException) {
-                return taskFlowException;
+                return taskFlowException.getHttpStatusCode();
             }
-            current = current.getCause();
-            depth++;
-        }
-        return null;
-    }
-
-    private ResourceNotFoundException findResourceNotFoundException(Throwable throwable) {
-        Throwable current = throwable;
-        int depth = 0;
-        while (current != null && depth < 10) {
-            if (current instanceof ResourceNotFoundException resourceNotFoundException) {
-                return resourceNotFoundException;
+            if (resourceNotFoundStatusCode == null && current instanceof ResourceNotFoundException) {
+                resourceNotFoundStatusCode = HttpStatus.BAD_REQUEST.value();
             }
             current = current.getCause();
             depth++;
         }
-        return null;
+        return resourceNotFoundStatusCode;
     }
 }
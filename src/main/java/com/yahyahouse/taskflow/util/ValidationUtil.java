@@ -1,12 +1,20 @@
 package com.yahyahouse.taskflow.util;
 
+import com.yahyahouse.taskflow.model.enums.TaskView;
+import com.yahyahouse.taskflow.model.request.BatchTaskStatusItem;
 import com.yahyahouse.taskflow.model.request.CreateTaskRequest;
+import com.yahyahouse.taskflow.model.request.TransitionTaskStatusRequest;
 import com.yahyahouse.taskflow.model.request.UpdateTaskRequest;
 import com.yahyahouse.taskflow.model.request.UpdateTaskStatusRequest;
+import java.util.List;
 import org.springframework.http.HttpStatus;
 
 public final class ValidationUtil {
 
+    public static final int DEFAULT_PAGE_LIMIT = 50;
+    public static final int MAX_PAGE_LIMIT = 500;
+    public static final int MAX_BATCH_SIZE = 1000;
+
     private ValidationUtil() {
     }
 
@@ -20,6 +28,46 @@ public final class ValidationUtil {
         }
     }
 
+    public static int resolvePageLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_PAGE_LIMIT;
+        }
+        if (limit < 1 || limit > MAX_PAGE_LIMIT) {
+            throw badRequest("limit must be between 1 and " + MAX_PAGE_LIMIT);
+        }
+        return limit;
+    }
+
+    public static TaskView resolveTaskView(String view) {
+        String normalizedView = CommonUtil.trimToNull(view);
+        if (normalizedView == null) {
+            return TaskView.FULL;
+        }
+        for (TaskView taskView : TaskView.values()) {
+            if (taskView.name().equalsIgnoreCase(normalizedView)) {
+                return taskView;
+            }
+        }
+        throw badRequest("view must be one of full, summary");
+    }
+
+    public static void validateBatchSize(List<?> items) {
+        if (items == null || items.isEmpty()) {
+            throw badRequest("items is required");
+        }
+        if (items.size() > MAX_BATCH_SIZE) {
+            throw badRequest("items must not exceed " + MAX_BATCH_SIZE);
+        }
+    }
+
+    public static void validateBatchTaskStatusItem(BatchTaskStatusItem item) {
+        if (item == null) {
+            throw badRequest("item is required");
+        }
+        validateTaskId(item.getId());
+        validateRequiredObject(item.getStatus(), "status");
+    }
+
     public static void validateCreateTaskRequest(CreateTaskRequest request, String transactionId) {
         if (request == null) {
             throw badRequest("request is required");
@@ -50,6 +98,21 @@ public final class ValidationUtil {
         }
     }
 
+    public static void validateTransitionTaskStatusRequest(TransitionTaskStatusRequest request, String transactionId) {
+        if (request == null) {
+            throw badRequest("request is required");
+        }
+        validateRequiredText(transactionId, "transactionId");
+        validateRequiredObject(request.getTargetStatus(), "targetStatus");
+        if (request.getStatus() == null
+                && request.getPriority() == null
+                && !CommonUtil.hasText(request.getKeyword())
+                && request.getDueDateFrom() == null
+                && request.getDueDateTo() == null) {
+            throw badRequest("at least one filter is required");
+        }
+    }
+
     public static void validateRequiredText(String value, String fieldName) {
         if (!CommonUtil.hasText(value)) {
             throw badRequest(fieldName + " is required");
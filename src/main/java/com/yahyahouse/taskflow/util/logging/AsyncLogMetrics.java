@@ -0,0 +1,58 @@
+package com.yahyahouse.taskflow.util.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Iterator;
+import org.slf4j.ILoggerFactory;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AsyncLogMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        ILoggerFactory loggerFactory = LoggerFactory.getILoggerFactory();
+        if (!(loggerFactory instanceof LoggerContext loggerContext)) {
+            return;
+        }
+        Logger rootLogger = loggerContext.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        Iterator<Appender<ILoggingEvent>> appenders = rootLogger.iteratorForAppenders();
+        while (appenders.hasNext()) {
+            if (appenders.next() instanceof RingBufferAsyncAppender appender) {
+                bind(registry, appender);
+            }
+        }
+    }
+
+    private void bind(MeterRegistry registry, RingBufferAsyncAppender appender) {
+        String name = appender.getName();
+        FunctionCounter.builder("taskflow.logging.async.events", appender, RingBufferAsyncAppender::getEnqueuedCount)
+                .tag("appender", name)
+                .tag("result", "enqueued")
+                .register(registry);
+        FunctionCounter.builder("taskflow.logging.async.events", appender, RingBufferAsyncAppender::getDroppedCount)
+                .tag("appender", name)
+                .tag("result", "dropped")
+                .register(registry);
+        FunctionCounter.builder("taskflow.logging.async.events", appender, RingBufferAsyncAppender::getWrittenCount)
+                .tag("appender", name)
+                .tag("result", "written")
+                .register(registry);
+        FunctionCounter.builder("taskflow.logging.async.batches", appender, RingBufferAsyncAppender::getBatchCount)
+                .tag("appender", name)
+                .register(registry);
+        Gauge.builder("taskflow.logging.async.queue.size", appender, RingBufferAsyncAppender::getQueueSize)
+                .tag("appender", name)
+                .register(registry);
+        Gauge.builder("taskflow.logging.async.queue.capacity", appender, RingBufferAsyncAppender::getCapacity)
+                .tag("appender", name)
+                .register(registry);
+    }
+}
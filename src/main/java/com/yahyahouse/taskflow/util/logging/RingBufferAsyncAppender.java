@@ -0,0 +1,202 @@
+package com.yahyahouse.taskflow.util.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+public class RingBufferAsyncAppender extends UnsynchronizedAppenderBase<ILoggingEvent>
+        implements AppenderAttachable<ILoggingEvent> {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 1_000;
+
+    private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+    private final LongAdder enqueued = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+
+    private int capacity = 8192;
+    private int batchSize = 256;
+    private long maxBlockMillis = 10;
+    private volatile LogEventRingBuffer<ILoggingEvent> buffer;
+    private volatile boolean running;
+    private Thread writer;
+
+    @Override
+    public void start() {
+        if (isStarted()) {
+            return;
+        }
+        if (capacity < 2 || batchSize < 1) {
+            addError("capacity must be at least 2 and batchSize at least 1");
+            return;
+        }
+        buffer = new LogEventRingBuffer<>(capacity);
+        running = true;
+        writer = Thread.ofPlatform()
+                .name("taskflow-log-writer")
+                .daemon()
+                .start(this::drainLoop);
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop();
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(SHUTDOWN_TIMEOUT_MILLIS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        event.prepareForDeferredProcessing();
+        LogEventRingBuffer<ILoggingEvent> currentBuffer = buffer;
+        if (currentBuffer.offer(event)) {
+            enqueued.increment();
+            return;
+        }
+        if (event.getLevel().isGreaterOrEqual(Level.WARN) && offerWithinDeadline(currentBuffer, event)) {
+            enqueued.increment();
+            return;
+        }
+        dropped.increment();
+    }
+
+    private boolean offerWithinDeadline(LogEventRingBuffer<ILoggingEvent> currentBuffer, ILoggingEvent event) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxBlockMillis);
+        LockSupport.unpark(writer);
+        while (System.nanoTime() < deadline) {
+            if (currentBuffer.offer(event)) {
+                return true;
+            }
+            Thread.onSpinWait();
+        }
+        return false;
+    }
+
+    private void drainLoop() {
+        ILoggingEvent[] batch = new ILoggingEvent[batchSize];
+        while (running) {
+            if (writeBatch(batch) == 0) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+        }
+        while (writeBatch(batch) > 0) {
+            // flush whatever was enqueued before stop
+        }
+    }
+
+    private int writeBatch(ILoggingEvent[] batch) {
+        int drained = buffer.drainTo(batch);
+        for (int i = 0; i < drained; i++) {
+            try {
+                appenders.appendLoopOnAppenders(batch[i]);
+            } catch (RuntimeException ex) {
+                addError("Failed to write log event", ex);
+            }
+            batch[i] = null;
+        }
+        if (drained > 0) {
+            written.add(drained);
+            batches.increment();
+        }
+        return drained;
+    }
+
+    public long getEnqueuedCount() {
+        return enqueued.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public long getWrittenCount() {
+        return written.sum();
+    }
+
+    public long getBatchCount() {
+        return batches.sum();
+    }
+
+    public int getQueueSize() {
+        LogEventRingBuffer<ILoggingEvent> currentBuffer = buffer;
+        return currentBuffer == null ? 0 : currentBuffer.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getMaxBlockMillis() {
+        return maxBlockMillis;
+    }
+
+    public void setMaxBlockMillis(long maxBlockMillis) {
+        this.maxBlockMillis = maxBlockMillis;
+    }
+
+    @Override
+    public void addAppender(Appender<ILoggingEvent> appender) {
+        appenders.addAppender(appender);
+    }
+
+    @Override
+    public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+        return appenders.iteratorForAppenders();
+    }
+
+    @Override
+    public Appender<ILoggingEvent> getAppender(String name) {
+        return appenders.getAppender(name);
+    }
+
+    @Override
+    public boolean isAttached(Appender<ILoggingEvent> appender) {
+        return appenders.isAttached(appender);
+    }
+
+    @Override
+    public void detachAndStopAllAppenders() {
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    public boolean detachAppender(Appender<ILoggingEvent> appender) {
+        return appenders.detachAppender(appender);
+    }
+
+    @Override
+    public boolean detachAppender(String name) {
+        return appenders.detachAppender(name);
+    }
+}
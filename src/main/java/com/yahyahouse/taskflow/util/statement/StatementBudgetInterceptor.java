@@ -0,0 +1,85 @@
+package com.yahyahouse.taskflow.util.statement;
+
+import com.yahyahouse.taskflow.util.transaction.TransactionContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+public class StatementBudgetInterceptor implements AsyncHandlerInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(StatementBudgetInterceptor.class);
+
+    private final MeterRegistry meterRegistry;
+    private final boolean failOnExceed;
+
+    public StatementBudgetInterceptor(MeterRegistry meterRegistry, boolean failOnExceed) {
+        this.meterRegistry = meterRegistry;
+        this.failOnExceed = failOnExceed;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            StatementBudget statementBudget = handlerMethod.getMethodAnnotation(StatementBudget.class);
+            StatementContext.begin(
+                    request.getMethod() + " " + uri(request),
+                    statementBudget == null ? StatementContext.NO_BUDGET : statementBudget.value(),
+                    failOnExceed);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        StatementContext.end();
+    }
+
+    @Override
+    public void afterCompletion(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            Object handler,
+            Exception ex
+    ) {
+        StatementContext.Scope scope = StatementContext.end();
+        if (scope == null) {
+            return;
+        }
+        String uri = uri(request);
+        DistributionSummary.builder("taskflow.http.server.statements")
+                .description("SQL statements executed per request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(scope.getStatementCount());
+        Timer.builder("taskflow.http.server.statement.time")
+                .description("Total SQL execution time per request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(scope.getStatementNanos(), TimeUnit.NANOSECONDS);
+        if (scope.exceeded()) {
+            Counter.builder("taskflow.http.server.statement.budget.exceeded")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("Statement budget exceeded by {}: {} statements, budget {} [transactionId={}]",
+                    scope.getEndpoint(), scope.getStatementCount(), scope.getBudget(), TransactionContext.current());
+        }
+    }
+
+    private String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? "UNKNOWN" : pattern.toString();
+    }
+}
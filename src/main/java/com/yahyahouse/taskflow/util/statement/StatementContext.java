@@ -0,0 +1,74 @@
+package com.yahyahouse.taskflow.util.statement;
+
+import java.sql.SQLException;
+
+public final class StatementContext {
+
+    public static final int NO_BUDGET = -1;
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private StatementContext() {
+    }
+
+    public static void begin(String endpoint, int budget, boolean failOnExceed) {
+        CURRENT.set(new Scope(endpoint, budget, failOnExceed));
+    }
+
+    public static Scope current() {
+        return CURRENT.get();
+    }
+
+    public static Scope end() {
+        Scope scope = CURRENT.get();
+        CURRENT.remove();
+        return scope;
+    }
+
+    public static final class Scope {
+
+        private final String endpoint;
+        private final int budget;
+        private final boolean failOnExceed;
+        private int statementCount;
+        private long statementNanos;
+
+        private Scope(String endpoint, int budget, boolean failOnExceed) {
+            this.endpoint = endpoint;
+            this.budget = budget;
+            this.failOnExceed = failOnExceed;
+        }
+
+        void beforeExecute(String sql) throws SQLException {
+            statementCount++;
+            if (failOnExceed && exceeded()) {
+                throw new SQLException("Statement budget of " + budget + " exceeded by " + endpoint
+                        + " at statement " + statementCount + ": " + sql);
+            }
+        }
+
+        void afterExecute(long elapsedNanos) {
+            statementNanos += elapsedNanos;
+        }
+
+        public boolean exceeded() {
+            return budget != NO_BUDGET && statementCount > budget;
+        }
+
+        public String getEndpoint() {
+            return endpoint;
+        }
+
+        public int getBudget() {
+            return budget;
+        }
+
+        public int getStatementCount() {
+            return statementCount;
+        }
+
+        public long getStatementNanos() {
+            return statementNanos;
+        }
+    }
+}
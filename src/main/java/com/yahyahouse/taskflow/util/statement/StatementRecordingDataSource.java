@@ -0,0 +1,91 @@
+package com.yahyahouse.taskflow.util.statement;
+
+import com.yahyahouse.taskflow.util.transaction.TransactionContext;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+public class StatementRecordingDataSource extends DelegatingDataSource {
+
+    private static final Logger log = LoggerFactory.getLogger(StatementRecordingDataSource.class);
+
+    private final long slowQueryThresholdNanos;
+
+    public StatementRecordingDataSource(DataSource targetDataSource, Duration slowQueryThreshold) {
+        super(targetDataSource);
+        this.slowQueryThresholdNanos = slowQueryThreshold.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return recording(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return recording(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection recording(Connection connection) {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            return switch (method.getName()) {
+                case "prepareStatement" -> recording(PreparedStatement.class, (Statement) result, (String) args[0]);
+                case "prepareCall" -> recording(CallableStatement.class, (Statement) result, (String) args[0]);
+                case "createStatement" -> recording(Statement.class, (Statement) result, null);
+                default -> result;
+            };
+        });
+    }
+
+    private <T extends Statement> T recording(Class<T> type, Statement statement, String preparedSql) {
+        return proxy(type, (proxy, method, args) -> {
+            if (!method.getName().startsWith("execute")) {
+                return invoke(statement, method, args);
+            }
+            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+            StatementContext.Scope scope = StatementContext.current();
+            if (scope != null) {
+                scope.beforeExecute(sql);
+            }
+            long startNanos = System.nanoTime();
+            try {
+                return invoke(statement, method, args);
+            } finally {
+                long elapsedNanos = System.nanoTime() - startNanos;
+                if (scope != null) {
+                    scope.afterExecute(elapsedNanos);
+                }
+                if (elapsedNanos >= slowQueryThresholdNanos) {
+                    log.warn("Slow SQL statement took {} ms [transactionId={}]: {}",
+                            TimeUnit.NANOSECONDS.toMillis(elapsedNanos), TransactionContext.current(), sql);
+                }
+            }
+        });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+}
@@ -0,0 +1,131 @@
+package com.yahyahouse.taskflow.util.timer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public final class HierarchicalTimingWheel<T> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 6;
+
+    private final long tickMillis;
+    private final List<List<Set<Timeout<T>>>> levels = new ArrayList<>(LEVELS);
+    private final Set<Timeout<T>> expired = new HashSet<>();
+    private long currentTick;
+    private int size;
+
+    public HierarchicalTimingWheel(Duration tick, long startMillis) {
+        if (tick.toMillis() <= 0) {
+            throw new IllegalArgumentException("tick must be at least one millisecond");
+        }
+        this.tickMillis = tick.toMillis();
+        this.currentTick = startMillis / tickMillis;
+        for (int level = 0; level < LEVELS; level++) {
+            List<Set<Timeout<T>>> slots = new ArrayList<>(SLOTS);
+            for (int slot = 0; slot < SLOTS; slot++) {
+                slots.add(new HashSet<>());
+            }
+            levels.add(slots);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Timeout<T> schedule(long deadlineMillis, T payload) {
+        Timeout<T> timeout = new Timeout<>(Math.ceilDiv(deadlineMillis, tickMillis), payload);
+        place(timeout);
+        size++;
+        return timeout;
+    }
+
+    public boolean cancel(Timeout<T> timeout) {
+        if (timeout.bucket == null || !timeout.bucket.remove(timeout)) {
+            return false;
+        }
+        timeout.bucket = null;
+        size--;
+        return true;
+    }
+
+    public List<T> advance(long nowMillis) {
+        long targetTick = nowMillis / tickMillis;
+        List<T> fired = new ArrayList<>();
+        collect(expired, fired);
+        while (currentTick < targetTick) {
+            currentTick++;
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((currentTick & ((1L << (level * SLOT_BITS)) - 1)) == 0) {
+                    collect(bucket(level, currentTick), fired);
+                }
+            }
+            collect(bucket(0, currentTick), fired);
+            collect(expired, fired);
+        }
+        return fired;
+    }
+
+    private void collect(Set<Timeout<T>> bucket, List<T> fired) {
+        if (bucket.isEmpty()) {
+            return;
+        }
+        List<Timeout<T>> timeouts = new ArrayList<>(bucket);
+        bucket.clear();
+        for (Timeout<T> timeout : timeouts) {
+            if (timeout.deadlineTick <= currentTick) {
+                timeout.bucket = null;
+                size--;
+                fired.add(timeout.payload);
+            } else {
+                place(timeout);
+            }
+        }
+    }
+
+    private void place(Timeout<T> timeout) {
+        long deadlineTick = timeout.deadlineTick;
+        if (deadlineTick <= currentTick) {
+            timeout.bucket = expired;
+            expired.add(timeout);
+            return;
+        }
+        int level = 0;
+        while (level < LEVELS - 1
+                && (deadlineTick >>> ((level + 1) * SLOT_BITS)) != (currentTick >>> ((level + 1) * SLOT_BITS))) {
+            level++;
+        }
+        Set<Timeout<T>> bucket = bucket(level, deadlineTick);
+        timeout.bucket = bucket;
+        bucket.add(timeout);
+    }
+
+    private Set<Timeout<T>> bucket(int level, long tick) {
+        return levels.get(level).get((int) ((tick >>> (level * SLOT_BITS)) & SLOT_MASK));
+    }
+
+    public static final class Timeout<T> {
+
+        private final long deadlineTick;
+        private final T payload;
+        private Set<Timeout<T>> bucket;
+
+        private Timeout(long deadlineTick, T payload) {
+            this.deadlineTick = deadlineTick;
+            this.payload = payload;
+        }
+
+        public T payload() {
+            return payload;
+        }
+
+        public boolean isPending() {
+            return bucket != null;
+        }
+    }
+}
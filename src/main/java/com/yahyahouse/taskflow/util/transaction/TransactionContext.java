@@ -35,4 +35,25 @@ public final class TransactionContext {
     public static void clear() {
         MDC.remove(MDC_KEY);
     }
+
+    public static Runnable wrap(Runnable task) {
+        String transactionId = current();
+        return () -> {
+            String previousTransactionId = current();
+            restore(transactionId);
+            try {
+                task.run();
+            } finally {
+                restore(previousTransactionId);
+            }
+        };
+    }
+
+    private static void restore(String transactionId) {
+        if (transactionId == null) {
+            clear();
+        } else {
+            MDC.put(MDC_KEY, transactionId);
+        }
+    }
 }
@@ -0,0 +1,37 @@
+package com.yahyahouse.taskflow.util.transaction;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TransactionContextFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        TransactionContext.clear();
+        TransactionContext.set(request.getHeader(TransactionContext.HEADER_NAME));
+        response.setHeader(TransactionContext.HEADER_NAME, TransactionContext.currentOrGenerate());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            TransactionContext.clear();
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+}
@@ -0,0 +1,11 @@
+package com.yahyahouse.taskflow.util.transaction;
+
+import org.springframework.core.task.TaskDecorator;
+
+public class TransactionContextTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        return TransactionContext.wrap(runnable);
+    }
+}
@@ -0,0 +1,95 @@
+package com.yahyahouse.taskflow.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.yahyahouse.taskflow.util.transaction.TransactionContext;
+import com.yahyahouse.taskflow.util.transaction.TransactionContextTaskDecorator;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.task.TaskDecorator;
+import tools.jackson.databind.ObjectMapper;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.threads.virtual.enabled=true"
+)
+class ExportVirtualThreadTest {
+
+    private static final String TRANSACTION_ID = "TEST-VIRTUAL-EXPORT";
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Value("${local.server.port}")
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void exportRunsOnVirtualThreadWithRequestTransactionId() throws Exception {
+        HttpResponse<String> created = httpClient.send(request("/api/tasks")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(Map.of(
+                        "title", "Virtual export",
+                        "description", "virtual thread export",
+                        "status", "TODO",
+                        "priority", "LOW",
+                        "dueDate", LocalDate.now().plusDays(1).toString()))))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        assertThat(created.statusCode()).as(created.body()).isEqualTo(201);
+
+        HttpResponse<String> export = httpClient.send(request("/api/tasks/export?status=TODO").GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        assertThat(export.statusCode()).as(export.body()).isEqualTo(200);
+        assertThat(export.body()).contains("Virtual export");
+        assertThat(RecordingTaskDecorator.OBSERVED)
+                .contains(new AsyncObservation(TRANSACTION_ID, true));
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header(TransactionContext.HEADER_NAME, TRANSACTION_ID);
+    }
+
+    record AsyncObservation(String transactionId, boolean virtual) {
+    }
+
+    static class RecordingTaskDecorator implements TaskDecorator {
+
+        static final List<AsyncObservation> OBSERVED = new CopyOnWriteArrayList<>();
+
+        private final TaskDecorator delegate = new TransactionContextTaskDecorator();
+
+        @Override
+        public Runnable decorate(Runnable runnable) {
+            return delegate.decorate(() -> {
+                OBSERVED.add(new AsyncObservation(TransactionContext.current(), Thread.currentThread().isVirtual()));
+                runnable.run();
+            });
+        }
+    }
+
+    @TestConfiguration
+    static class RecordingTaskDecoratorConfig {
+
+        @Bean
+        @Primary
+        TaskDecorator recordingTaskDecorator() {
+            return new RecordingTaskDecorator();
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.yahyahouse.taskflow.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.yahyahouse.taskflow.util.statement.StatementBudget;
+import com.yahyahouse.taskflow.util.transaction.TransactionContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "taskflow.sql.budget.fail-on-exceed=true"
+)
+class StatementBudgetTest {
+
+    private static final String TRANSACTION_ID = "TEST-STATEMENT-BUDGET";
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Value("${local.server.port}")
+    private int port;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+    private int jdbcBatchSize;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void batchBudgetAssumesTheConfiguredJdbcBatchSize() {
+        assertThat(jdbcBatchSize).isEqualTo(TaskController.JDBC_BATCH_SIZE);
+    }
+
+    @Test
+    void overBudgetRequestFailsAndIsCounted() throws Exception {
+        HttpResponse<String> response = exchange("GET", OverBudgetController.PATH, null);
+
+        assertThat(response.statusCode()).as(response.body()).isEqualTo(500);
+        Counter exceeded = meterRegistry.find("taskflow.http.server.statement.budget.exceeded")
+                .tag("method", "GET")
+                .tag("uri", OverBudgetController.PATH)
+                .counter();
+        assertThat(exceeded).isNotNull();
+        assertThat(exceeded.count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void budgetedTaskEndpointsStayWithinTheirBudgets() throws Exception {
+        LocalDate dueDate = LocalDate.now().plusDays(3);
+        JsonNode created = send("POST", "/api/tasks", Map.of(
+                "title", "Budget check",
+                "description", "statement budget",
+                "status", "TODO",
+                "priority", "HIGH",
+                "dueDate", dueDate.toString()));
+        long id = created.get("id").asLong();
+
+        List<Map<String, Object>> batch = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            batch.add(Map.of(
+                    "title", "Budget batch " + i,
+                    "description", "statement budget",
+                    "status", "TODO",
+                    "priority", "LOW",
+                    "dueDate", dueDate.toString()));
+        }
+        JsonNode batchCreated = send("POST", "/api/tasks/batch", batch);
+        long batchId = batchCreated.get("results").get(0).get("id").asLong();
+
+        send("GET", "/api/tasks", null);
+        send("GET", "/api/tasks?status=TODO&priority=HIGH&view=summary", null);
+        send("GET", "/api/tasks?keyword=budget", null);
+        send("GET", "/api/tasks/search?q=budget", null);
+        send("GET", "/api/tasks/" + id, null);
+        send("GET", "/api/tasks/changes", null);
+        send("GET", "/api/tasks/changes?since=now", null);
+
+        send("PUT", "/api/tasks/" + id, Map.of(
+                "title", "Budget check updated",
+                "priority", "MEDIUM",
+                "dueDate", dueDate.toString()));
+        send("PATCH", "/api/tasks/" + id + "/status", Map.of("status", "IN_PROGRESS"));
+        send("PATCH", "/api/tasks/status/batch", List.of(Map.of("id", batchId, "status", "IN_PROGRESS")));
+        send("PATCH", "/api/tasks/status/transition", Map.of("priority", "LOW", "targetStatus", "DONE"));
+        send("DELETE", "/api/tasks/" + id, null);
+
+        send("GET", "/api/reports/summary", null);
+        send("GET", "/api/reports/status-count", null);
+        send("GET", "/api/reports/overdue", null);
+    }
+
+    private JsonNode send(String method, String path, Object body) throws IOException, InterruptedException {
+        HttpResponse<String> response = exchange(method, path, body);
+        assertThat(response.statusCode())
+                .as("%s %s -> %s", method, path, response.body())
+                .isBetween(200, 299);
+        return response.body().isEmpty() ? null : objectMapper.readTree(response.body());
+    }
+
+    private HttpResponse<String> exchange(String method, String path, Object body)
+            throws IOException, InterruptedException {
+        HttpRequest.BodyPublisher publisher = body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header(TransactionContext.HEADER_NAME, TRANSACTION_ID)
+                .header("Content-Type", "application/json")
+                .method(method, publisher)
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    @TestConfiguration
+    static class OverBudgetConfig {
+
+        @Bean
+        OverBudgetController overBudgetController(JdbcTemplate jdbcTemplate) {
+            return new OverBudgetController(jdbcTemplate);
+        }
+    }
+
+    @RestController
+    static class OverBudgetController {
+
+        static final String PATH = "/api/test/over-budget";
+
+        private final JdbcTemplate jdbcTemplate;
+
+        OverBudgetController(JdbcTemplate jdbcTemplate) {
+            this.jdbcTemplate = jdbcTemplate;
+        }
+
+        @GetMapping(PATH)
+        @StatementBudget(1)
+        Integer overBudget() {
+            jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+            return jdbcTemplate.queryForObject("SELECT 2", Integer.class);
+        }
+    }
+}
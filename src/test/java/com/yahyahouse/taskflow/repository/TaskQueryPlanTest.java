@@ -0,0 +1,160 @@
+package com.yahyahouse.taskflow.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.yahyahouse.taskflow.model.TaskCursor;
+import com.yahyahouse.taskflow.model.TaskFilter;
+import com.yahyahouse.taskflow.model.enums.TaskPriority;
+import com.yahyahouse.taskflow.model.enums.TaskStatus;
+import jakarta.persistence.EntityManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.hibernate.Session;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.criteria.value_handling_mode=inline",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.yahyahouse.taskflow.repository.TaskQueryPlanTest$RecordingStatementInspector"
+})
+class TaskQueryPlanTest {
+
+    private static final Pattern PLAN_INDEX = Pattern.compile("/\\* PUBLIC\\.([A-Z0-9_.]+)");
+    private static final int PAGE_LIMIT = 51;
+    private static final LocalDate MARCH_FIRST = LocalDate.of(2026, 3, 1);
+    private static final LocalDate MARCH_SEVENTH = LocalDate.of(2026, 3, 7);
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @BeforeEach
+    void seedTasks() {
+        entityManager.createNativeQuery("""
+                INSERT INTO tasks (id, title, status, priority, due_date, created_at, updated_at, version)
+                SELECT X,
+                       'Task ' || X,
+                       CASE MOD(X, 3) WHEN 0 THEN 'TODO' WHEN 1 THEN 'IN_PROGRESS' ELSE 'DONE' END,
+                       CASE MOD(X / 3, 3) WHEN 0 THEN 'LOW' WHEN 1 THEN 'MEDIUM' ELSE 'HIGH' END,
+                       DATEADD(DAY, MOD(X, 365), DATE '2026-01-01'),
+                       DATEADD(SECOND, X, TIMESTAMP '2026-01-01 00:00:00'),
+                       DATEADD(SECOND, X, TIMESTAMP '2026-01-01 00:00:00'),
+                       0
+                FROM SYSTEM_RANGE(1, 5000)
+                """).executeUpdate();
+        RecordingStatementInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    void unfilteredPageWalksCreatedAtIndex() {
+        assertPageUses(filter(null, null, null, null), null, "IDX_TASKS_CREATED_AT_ID");
+    }
+
+    @Test
+    void unfilteredPageAfterCursorWalksCreatedAtIndex() {
+        TaskCursor cursor = new TaskCursor(LocalDateTime.of(2026, 1, 1, 1, 0), 3600L);
+        assertPageUses(filter(null, null, null, null), cursor, "IDX_TASKS_CREATED_AT_ID");
+    }
+
+    @Test
+    void statusPageSeeksStatusIndex() {
+        assertPageUses(filter(TaskStatus.TODO, null, null, null), null,
+                "IDX_TASKS_STATUS_CREATED_AT", "IDX_TASKS_STATUS_DUE_DATE");
+    }
+
+    @Test
+    void priorityPageSeeksPriorityIndex() {
+        assertPageUses(filter(null, TaskPriority.HIGH, null, null), null, "IDX_TASKS_PRIORITY_CREATED_AT");
+    }
+
+    @Test
+    void statusAndPriorityPageSeeksEitherColumnIndex() {
+        assertPageUses(filter(TaskStatus.TODO, TaskPriority.HIGH, null, null), null,
+                "IDX_TASKS_STATUS_CREATED_AT", "IDX_TASKS_PRIORITY_CREATED_AT", "IDX_TASKS_STATUS_DUE_DATE");
+    }
+
+    @Test
+    void dueDateRangePageSeeksDueDateIndex() {
+        assertPageUses(filter(null, null, MARCH_FIRST, MARCH_SEVENTH), null, "IDX_TASKS_DUE_DATE");
+    }
+
+    @Test
+    void statusAndDueDateRangePageSeeksStatusDueDateIndex() {
+        assertPageUses(filter(TaskStatus.TODO, null, MARCH_FIRST, MARCH_SEVENTH), null, "IDX_TASKS_STATUS_DUE_DATE");
+    }
+
+    @Test
+    void overduePageSeeksStatusDueDateIndex() {
+        taskRepository.findOverduePageRows(LocalDate.of(2026, 2, 1), null, PAGE_LIMIT);
+        assertUses(capturedSelect(), "IDX_TASKS_STATUS_DUE_DATE");
+    }
+
+    private void assertPageUses(TaskFilter filter, TaskCursor cursor, String... expectedIndexes) {
+        taskRepository.findPageRows(filter, cursor, PAGE_LIMIT, false);
+        assertUses(capturedSelect(), expectedIndexes);
+    }
+
+    private void assertUses(String sql, String... expectedIndexes) {
+        String plan = explain(sql);
+        Matcher matcher = PLAN_INDEX.matcher(plan);
+        assertThat(matcher.find()).as(plan).isTrue();
+        assertThat(matcher.group(1)).as(plan).isIn((Object[]) expectedIndexes);
+    }
+
+    private String capturedSelect() {
+        List<String> selects = RecordingStatementInspector.STATEMENTS.stream()
+                .filter(sql -> sql.stripLeading().toLowerCase(Locale.ROOT).startsWith("select"))
+                .toList();
+        assertThat(selects).hasSize(1);
+        return selects.get(0);
+    }
+
+    // Filter values are inlined by value_handling_mode=inline; only the row limit is still a bind parameter.
+    private String explain(String sql) {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                int parameterCount = statement.getParameterMetaData().getParameterCount();
+                for (int i = 1; i <= parameterCount; i++) {
+                    statement.setInt(i, PAGE_LIMIT);
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    assertThat(resultSet.next()).isTrue();
+                    return resultSet.getString(1);
+                }
+            }
+        });
+    }
+
+    private static TaskFilter filter(
+            TaskStatus status,
+            TaskPriority priority,
+            LocalDate dueDateFrom,
+            LocalDate dueDateTo
+    ) {
+        return TaskFilter.of(status, priority, null, dueDateFrom, dueDateTo);
+    }
+
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}